@@ -0,0 +1,164 @@
+package entidades;
+
+import java.util.Arrays;
+
+/**
+ * Resuelve el problema de asignación de costo mínimo (algoritmo húngaro con
+ * potenciales, variante de caminos mínimos). Dada una matriz de costos de
+ * n filas por m columnas con n <= m, asigna a cada fila una columna distinta
+ * de forma que la suma de los costos sea mínima.
+ *
+ * Complejidad: O(n² · m) en tiempo y O(m) de memoria adicional.
+ *
+ * Las filas de la matriz pueden ser el mismo arreglo compartido: el algoritmo
+ * solo lee la matriz, así que filas iguales (por ejemplo, tareas de la misma
+ * duración) no necesitan copiarse. Cuando hay más tareas que empleados, las
+ * tareas tienen que ser las columnas: resolverPorColumnas() recibe la matriz
+ * por columnas, que también pueden ser compartidas.
+ *
+ * Un costo Double.POSITIVE_INFINITY indica que ese par no se puede asignar.
+ * Como los potenciales no admiten restas entre infinitos, internamente se
+ * reemplaza por un costo finito mayor que cualquier asignación sin pares
+ * prohibidos; así se maximiza primero la cantidad de filas asignables y
+ * después se minimiza el costo. Las filas que igual caen en un par prohibido
+ * se devuelven sin asignar.
+ */
+public final class AsignadorOptimo {
+
+    private AsignadorOptimo() {
+    }
+
+    /**
+     * @param costos Matriz de costos, con al menos tantas columnas como filas
+     * @return Para cada fila, la columna asignada, o -1 si no se le pudo asignar
+     *         ninguna columna sin usar un par prohibido
+     * @throws IllegalArgumentException si la matriz es nula, irregular, tiene más
+     *         filas que columnas o contiene NaN o -infinito
+     */
+    public static int[] resolver(double[][] costos) {
+        return resolver(costos, false);
+    }
+
+    /**
+     * Igual que resolver(), pero recibe la matriz por columnas: el costo de la
+     * fila i y la columna j es columnas[j][i]. Sirve cuando hay más columnas que
+     * filas y las columnas iguales son un mismo arreglo compartido, sin armar
+     * la matriz traspuesta.
+     *
+     * @param columnas Columnas de la matriz de costos, cada una con un costo por fila
+     * @return Para cada fila, la columna asignada, o -1 si no se le pudo asignar
+     *         ninguna columna sin usar un par prohibido
+     * @throws IllegalArgumentException si la matriz es nula, irregular, tiene más
+     *         filas que columnas o contiene NaN o -infinito
+     */
+    public static int[] resolverPorColumnas(double[][] columnas) {
+        return resolver(columnas, true);
+    }
+
+    /**
+     * @param matriz Los costos por filas, o por columnas si porColumnas es true
+     */
+    private static int[] resolver(double[][] matriz, boolean porColumnas) {
+        if (matriz == null) {
+            throw new IllegalArgumentException("La matriz de costos no puede ser nula");
+        }
+        if (matriz.length == 0) {
+            return new int[0];
+        }
+        int largo = matriz[0] == null ? 0 : matriz[0].length;
+        for (double[] linea : matriz) {
+            if (linea == null || linea.length != largo) {
+                throw new IllegalArgumentException("Todas las filas deben tener la misma cantidad de columnas");
+            }
+        }
+        int n = porColumnas ? largo : matriz.length;
+        int m = porColumnas ? matriz.length : largo;
+        if (n == 0) {
+            return new int[0];
+        }
+        if (n > m) {
+            throw new IllegalArgumentException("La matriz no puede tener más filas que columnas");
+        }
+        double maximo = 0;
+        for (double[] linea : matriz) {
+            for (double costo : linea) {
+                if (Double.isNaN(costo) || costo == Double.NEGATIVE_INFINITY) {
+                    throw new IllegalArgumentException("Los costos deben ser números o +infinito");
+                }
+                if (costo != Double.POSITIVE_INFINITY) {
+                    maximo = Math.max(maximo, Math.abs(costo));
+                }
+            }
+        }
+        // Mayor que la suma de n costos permitidos cualesquiera
+        double prohibido = (maximo + 1) * 2 * (n + 1);
+
+        // Índices desplazados en uno: la fila/columna 0 es ficticia
+        double[] u = new double[n + 1];
+        double[] v = new double[m + 1];
+        int[] filaDeColumna = new int[m + 1];
+        int[] anterior = new int[m + 1];
+        double[] minimo = new double[m + 1];
+        boolean[] usada = new boolean[m + 1];
+
+        for (int i = 1; i <= n; i++) {
+            filaDeColumna[0] = i;
+            int columna = 0;
+            Arrays.fill(minimo, Double.POSITIVE_INFINITY);
+            Arrays.fill(usada, false);
+            do {
+                usada[columna] = true;
+                int fila = filaDeColumna[columna];
+                double delta = Double.POSITIVE_INFINITY;
+                int siguiente = 0;
+                for (int j = 1; j <= m; j++) {
+                    if (!usada[j]) {
+                        double costo = costo(matriz, porColumnas, fila - 1, j - 1);
+                        if (costo == Double.POSITIVE_INFINITY) {
+                            costo = prohibido;
+                        }
+                        double reducido = costo - u[fila] - v[j];
+                        if (reducido < minimo[j]) {
+                            minimo[j] = reducido;
+                            anterior[j] = columna;
+                        }
+                        if (minimo[j] < delta) {
+                            delta = minimo[j];
+                            siguiente = j;
+                        }
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (usada[j]) {
+                        u[filaDeColumna[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minimo[j] -= delta;
+                    }
+                }
+                columna = siguiente;
+            } while (filaDeColumna[columna] != 0);
+
+            // Invertir el camino aumentante
+            do {
+                int previa = anterior[columna];
+                filaDeColumna[columna] = filaDeColumna[previa];
+                columna = previa;
+            } while (columna != 0);
+        }
+
+        int[] asignacion = new int[n];
+        for (int j = 1; j <= m; j++) {
+            int fila = filaDeColumna[j];
+            if (fila != 0) {
+                boolean prohibida = costo(matriz, porColumnas, fila - 1, j - 1) == Double.POSITIVE_INFINITY;
+                asignacion[fila - 1] = prohibida ? -1 : j - 1;
+            }
+        }
+        return asignacion;
+    }
+
+    private static double costo(double[][] matriz, boolean porColumnas, int fila, int columna) {
+        return porColumnas ? matriz[columna][fila] : matriz[fila][columna];
+    }
+}
@@ -0,0 +1,154 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffer circular de capacidad fija donde HomeSolution publica sus eventos.
+ * Varios suscriptores pueden consumirlo, cada uno a su propio ritmo.
+ *
+ * Funcionamiento:
+ * - Cada evento recibe un número de secuencia creciente
+ * - Cada suscriptor tiene su propio cursor y pide de a lotes (leer(maximo)),
+ *   así el consumidor controla cuánto recibe (contrapresión por demanda)
+ * - La publicación nunca bloquea ni falla, porque ocurre después de que
+ *   HomeSolution ya modificó su estado. Si un suscriptor se atrasa más que
+ *   la capacidad, el evento más viejo se pisa igual y esa suscripción queda
+ *   desbordada: leer() falla hasta que llame a resincronizar(), que la lleva
+ *   al evento más viejo que sigue guardado e informa cuántos perdió. Así un
+ *   suscriptor que no lee nunca no hace crecer la memoria
+ *
+ * Los cursores de las suscripciones se leen y modifican solo con el lock del
+ * buffer, así publicar() puede consultarlos sin riesgo de deadlock.
+ * Es seguro usarlo desde varios hilos.
+ *
+ * Invariantes:
+ * - eventos.length > 0 y no cambia
+ * - Para toda suscripción activa s no desbordada:
+ *   siguienteSecuencia - eventos.length <= s.siguiente <= siguienteSecuencia
+ */
+public class BufferEventos {
+    private final Evento[] eventos;
+    private long siguienteSecuencia;
+    private final List<SuscripcionEventos> suscripciones;
+
+    /**
+     * @param capacidad Cantidad de eventos que se guardan
+     * @throws IllegalArgumentException si capacidad <= 0
+     */
+    public BufferEventos(int capacidad) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser mayor que 0");
+        }
+        this.eventos = new Evento[capacidad];
+        this.siguienteSecuencia = 1;
+        this.suscripciones = new ArrayList<>();
+    }
+
+    /**
+     * Publica un nuevo evento y despierta a los suscriptores en espera.
+     * Las suscripciones que todavía no leyeron el evento que se pisa quedan
+     * desbordadas.
+     *
+     * @return El evento publicado, con su número de secuencia
+     */
+    public synchronized Evento publicar(TipoEvento tipo, int numeroProyecto, int legajo, String titulo,
+            String detalle) {
+        long pisada = siguienteSecuencia - eventos.length;
+        if (pisada > 0) {
+            for (SuscripcionEventos suscripcion : suscripciones) {
+                if (suscripcion.siguiente <= pisada) {
+                    suscripcion.desbordada = true;
+                }
+            }
+        }
+        Evento evento = new Evento(siguienteSecuencia, tipo, numeroProyecto, legajo, titulo, detalle);
+        eventos[(int) (siguienteSecuencia % eventos.length)] = evento;
+        siguienteSecuencia++;
+        notifyAll();
+        return evento;
+    }
+
+    /**
+     * Crea una suscripción que recibirá los eventos publicados a partir de ahora.
+     *
+     * @return La nueva suscripción
+     */
+    public synchronized SuscripcionEventos suscribir() {
+        SuscripcionEventos suscripcion = new SuscripcionEventos(this, siguienteSecuencia);
+        suscripciones.add(suscripcion);
+        return suscripcion;
+    }
+
+    synchronized void desuscribir(SuscripcionEventos suscripcion) {
+        suscripcion.activa = false;
+        suscripciones.remove(suscripcion);
+        notifyAll();
+    }
+
+    /**
+     * @return El número de secuencia del último evento publicado, o 0 si no hubo ninguno
+     */
+    public synchronized long getUltimaSecuencia() {
+        return siguienteSecuencia - 1;
+    }
+
+    public synchronized int getCantidadSuscripciones() {
+        return suscripciones.size();
+    }
+
+    public int getCapacidad() {
+        return eventos.length;
+    }
+
+    /**
+     * Copia a la lista los eventos siguientes al cursor de la suscripción,
+     * hasta el máximo pedido, y avanza el cursor.
+     *
+     * @throws IllegalStateException si la suscripción fue cancelada o está desbordada
+     */
+    synchronized void leer(SuscripcionEventos suscripcion, int maximo, List<Evento> destino) {
+        if (!suscripcion.activa) {
+            throw new IllegalStateException("La suscripción fue cancelada");
+        }
+        if (suscripcion.desbordada) {
+            throw new IllegalStateException("La suscripción se atrasó y perdió eventos; hay que resincronizarla");
+        }
+        long fin = Math.min(siguienteSecuencia, suscripcion.siguiente + maximo);
+        for (long secuencia = suscripcion.siguiente; secuencia < fin; secuencia++) {
+            destino.add(eventos[(int) (secuencia % eventos.length)]);
+        }
+        suscripcion.siguiente = fin;
+    }
+
+    /**
+     * Lleva el cursor de la suscripción al evento más viejo que sigue guardado.
+     *
+     * @return La cantidad de eventos que la suscripción perdió
+     */
+    synchronized long resincronizar(SuscripcionEventos suscripcion) {
+        long primero = Math.max(1, siguienteSecuencia - eventos.length);
+        long perdidos = Math.max(0, primero - suscripcion.siguiente);
+        suscripcion.siguiente = Math.max(suscripcion.siguiente, primero);
+        suscripcion.desbordada = false;
+        return perdidos;
+    }
+
+    synchronized boolean estaDesbordada(SuscripcionEventos suscripcion) {
+        return suscripcion.desbordada;
+    }
+
+    synchronized long siguienteDe(SuscripcionEventos suscripcion) {
+        return suscripcion.siguiente;
+    }
+
+    synchronized void esperar(SuscripcionEventos suscripcion, long milisegundos) throws InterruptedException {
+        long limite = System.currentTimeMillis() + milisegundos;
+        long restante = milisegundos;
+        while (suscripcion.activa && !suscripcion.desbordada && siguienteSecuencia <= suscripcion.siguiente
+                && restante > 0) {
+            wait(restante);
+            restante = limite - System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package entidades;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache acotado de textos generados, invalidado por versión.
+ * Cada texto se guarda junto con la versión de la entidad que lo generó;
+ * si la entidad cambió de versión, el texto se vuelve a generar.
+ * Cuando se supera la capacidad se descarta el texto usado hace más tiempo (LRU).
+ *
+ * Invariantes:
+ * - capacidad > 0
+ * - textos.size() <= capacidad
+ */
+public class CacheTextos {
+    private final int capacidad;
+    private final LinkedHashMap<Integer, Entrada> textos;
+    private long aciertos;
+    private long fallos;
+
+    private static class Entrada {
+        private final long version;
+        private final String texto;
+
+        Entrada(long version, String texto) {
+            this.version = version;
+            this.texto = texto;
+        }
+    }
+
+    public CacheTextos(int capacidad) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser mayor que 0");
+        }
+        this.capacidad = capacidad;
+        this.textos = new LinkedHashMap<Integer, Entrada>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entrada> mayor) {
+                return size() > CacheTextos.this.capacidad;
+            }
+        };
+    }
+
+    /**
+     * Devuelve el texto guardado para la clave si fue generado con la misma
+     * versión; si no, lo genera, lo guarda y lo devuelve.
+     *
+     * @param clave Identificador de la entidad (por ejemplo, número de proyecto)
+     * @param version Versión actual de la entidad
+     * @param generador Genera el texto cuando no está en cache o está desactualizado
+     * @return El texto correspondiente a la versión actual
+     */
+    public String obtener(int clave, long version, Supplier<String> generador) {
+        Entrada entrada = textos.get(clave);
+        if (entrada != null && entrada.version == version) {
+            aciertos++;
+            return entrada.texto;
+        }
+        fallos++;
+        String texto = generador.get();
+        textos.put(clave, new Entrada(version, texto));
+        return texto;
+    }
+
+    public int cantidad() {
+        return textos.size();
+    }
+
+    public long getAciertos() {
+        return aciertos;
+    }
+
+    public long getFallos() {
+        return fallos;
+    }
+}
@@ -0,0 +1,124 @@
+package entidades;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Calendario de reservas de un empleado.
+ * Permite reservar al empleado para tareas futuras aunque hoy esté trabajando
+ * en otra, siempre que los rangos de días no se superpongan.
+ *
+ * Estructura de datos:
+ * - TreeMap<Long, Reserva> ordenado por el primer día de la reserva
+ *   (LocalDate.toEpochDay()). Como las reservas no se superponen, la reserva
+ *   anterior a un día es floorEntry y la siguiente es ceilingEntry, por lo que
+ *   verificar si un rango está libre cuesta O(log n).
+ *
+ * Invariantes:
+ * - Las reservas del calendario no se superponen
+ */
+public class CalendarioEmpleado {
+    private final int legajo;
+    private final TreeMap<Long, Reserva> reservas;
+
+    public CalendarioEmpleado(int legajo) {
+        this.legajo = legajo;
+        this.reservas = new TreeMap<>();
+    }
+
+    public int getLegajo() {
+        return legajo;
+    }
+
+    /**
+     * @param desde Primer día del rango
+     * @param dias Cantidad de días del rango
+     * @return true si el empleado no tiene reservas en el rango
+     */
+    public boolean estaLibre(LocalDate desde, int dias) {
+        long inicio = desde.toEpochDay();
+        long fin = inicio + dias;
+        Map.Entry<Long, Reserva> anterior = reservas.floorEntry(inicio);
+        if (anterior != null && anterior.getValue().getHasta().toEpochDay() > inicio) {
+            return false;
+        }
+        Long siguiente = reservas.higherKey(inicio);
+        return siguiente == null || siguiente >= fin;
+    }
+
+    /**
+     * Busca el primer día, a partir de desde, en que el empleado tiene libres
+     * dias días seguidos. Ubica el punto de partida en O(log n) y después
+     * recorre solo las reservas que se interponen.
+     *
+     * @param desde Día a partir del cual buscar
+     * @param dias Cantidad de días necesarios
+     * @return El primer día del hueco encontrado
+     */
+    public LocalDate primerDiaLibre(LocalDate desde, int dias) {
+        return primerDiaLibre(desde, dias, CalendarioLaboral.TODOS_LOS_DIAS);
+    }
+
+    /**
+     * Igual que primerDiaLibre(desde, dias), pero los días necesarios son días
+     * hábiles del calendario y el hueco empieza en un día hábil.
+     *
+     * @param desde Día a partir del cual buscar
+     * @param dias Cantidad de días hábiles necesarios
+     * @param calendario Calendario que define los días hábiles
+     * @return El primer día del hueco encontrado
+     */
+    public LocalDate primerDiaLibre(LocalDate desde, int dias, CalendarioLaboral calendario) {
+        long inicio = calendario.primerDiaHabil(desde.toEpochDay());
+        Map.Entry<Long, Reserva> anterior = reservas.floorEntry(inicio);
+        if (anterior != null && anterior.getValue().getHasta().toEpochDay() > inicio) {
+            inicio = calendario.primerDiaHabil(anterior.getValue().getHasta().toEpochDay());
+        }
+        Map.Entry<Long, Reserva> siguiente = reservas.higherEntry(inicio - 1);
+        while (siguiente != null && siguiente.getKey() < calendario.sumarDiasHabiles(inicio, dias)) {
+            long fin = siguiente.getValue().getHasta().toEpochDay();
+            if (fin > inicio) {
+                inicio = calendario.primerDiaHabil(fin);
+            }
+            siguiente = reservas.higherEntry(siguiente.getKey());
+        }
+        return LocalDate.ofEpochDay(inicio);
+    }
+
+    /**
+     * Agrega una reserva al calendario.
+     *
+     * @param reserva La reserva a agregar
+     * @throws IllegalArgumentException si es de otro empleado o se superpone con otra reserva
+     */
+    public void reservar(Reserva reserva) {
+        if (reserva.getLegajo() != legajo) {
+            throw new IllegalArgumentException("La reserva no corresponde al empleado");
+        }
+        int dias = (int) (reserva.getHasta().toEpochDay() - reserva.getDesde().toEpochDay());
+        if (!estaLibre(reserva.getDesde(), dias)) {
+            throw new IllegalArgumentException("El empleado ya tiene una reserva en ese rango");
+        }
+        reservas.put(reserva.getDesde().toEpochDay(), reserva);
+    }
+
+    /**
+     * Quita una reserva del calendario.
+     *
+     * @param reserva La reserva a quitar
+     * @return true si la reserva estaba en el calendario
+     */
+    public boolean cancelar(Reserva reserva) {
+        return reservas.remove(reserva.getDesde().toEpochDay(), reserva);
+    }
+
+    /**
+     * @return Las reservas del empleado ordenadas por fecha
+     */
+    public List<Reserva> getReservas() {
+        return new ArrayList<>(reservas.values());
+    }
+}
@@ -0,0 +1,217 @@
+package entidades;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Calendario de días hábiles: indica qué días de la semana no se trabaja y
+ * qué feriados hay, y hace las cuentas de fechas en días hábiles.
+ *
+ * Los días se manejan como LocalDate.toEpochDay() (el 1970-01-01 es jueves).
+ *
+ * Estructura de datos:
+ * - acumulado[i] = cantidad de días hábiles en [base, base + i)
+ * - habiles[k] = desplazamiento desde base del k-ésimo día hábil
+ * Con estas dos tablas sumar N días hábiles y contar días hábiles entre dos
+ * fechas son accesos directos, O(1). Las tablas cubren un rango de días que
+ * se amplía (al menos al doble) cuando se consulta una fecha fuera de él.
+ *
+ * El calendario es inmutable; las tablas se reemplazan completas al ampliarse,
+ * así que puede consultarse desde varios hilos (por ejemplo, en SimuladorRiesgo).
+ */
+public class CalendarioLaboral {
+    /** Todos los días son hábiles: las cuentas coinciden con LocalDate.plusDays */
+    public static final CalendarioLaboral TODOS_LOS_DIAS =
+            new CalendarioLaboral(EnumSet.noneOf(DayOfWeek.class), Collections.emptySet());
+
+    // Días de más que se incluyen en las tablas alrededor del rango pedido
+    private static final int MARGEN = 366;
+
+    private final Set<DayOfWeek> diasNoLaborables;
+    private final Set<Long> feriados;
+    private final boolean todosHabiles;
+    private volatile Tablas tablas;
+
+    private static final class Tablas {
+        private final long base;
+        private final int[] acumulado;
+        private final int[] habiles;
+
+        private Tablas(long base, int[] acumulado, int[] habiles) {
+            this.base = base;
+            this.acumulado = acumulado;
+            this.habiles = habiles;
+        }
+
+        private long fin() {
+            return base + acumulado.length - 1;
+        }
+    }
+
+    /**
+     * @param diasNoLaborables Días de la semana en que no se trabaja (por ejemplo sábado y domingo)
+     * @param feriados Fechas en que no se trabaja
+     * @throws IllegalArgumentException si algún parámetro es nulo, contiene nulos
+     *         o no queda ningún día hábil en la semana
+     */
+    public CalendarioLaboral(Set<DayOfWeek> diasNoLaborables, Collection<LocalDate> feriados) {
+        if (diasNoLaborables == null || feriados == null) {
+            throw new IllegalArgumentException("Los días no laborables y los feriados no pueden ser nulos");
+        }
+        for (DayOfWeek dia : diasNoLaborables) {
+            if (dia == null) {
+                throw new IllegalArgumentException("Los días no laborables no pueden contener nulos");
+            }
+        }
+        if (diasNoLaborables.size() == DayOfWeek.values().length) {
+            throw new IllegalArgumentException("Debe haber al menos un día hábil en la semana");
+        }
+        this.diasNoLaborables = diasNoLaborables.isEmpty()
+                ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(diasNoLaborables);
+        this.feriados = new HashSet<>();
+        for (LocalDate feriado : feriados) {
+            if (feriado == null) {
+                throw new IllegalArgumentException("Los feriados no pueden contener nulos");
+            }
+            this.feriados.add(feriado.toEpochDay());
+        }
+        this.todosHabiles = this.diasNoLaborables.isEmpty() && this.feriados.isEmpty();
+    }
+
+    /**
+     * @param feriados Fechas en que no se trabaja
+     * @return Un calendario de lunes a viernes con los feriados indicados
+     */
+    public static CalendarioLaboral lunesAViernes(Collection<LocalDate> feriados) {
+        return new CalendarioLaboral(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), feriados);
+    }
+
+    /**
+     * @param dia Día como LocalDate.toEpochDay()
+     * @return true si se trabaja ese día
+     */
+    public boolean esHabil(long dia) {
+        DayOfWeek diaSemana = DayOfWeek.of((int) Math.floorMod(dia + 3, 7L) + 1);
+        return !diasNoLaborables.contains(diaSemana) && !feriados.contains(dia);
+    }
+
+    /**
+     * Suma días hábiles a una fecha. Una tarea de N días que empieza en dia
+     * termina (sin incluir) en el día devuelto; si dia no es hábil, la tarea
+     * empieza el siguiente día hábil.
+     *
+     * @param dia Día como LocalDate.toEpochDay()
+     * @param dias Cantidad de días hábiles, no negativa
+     * @return El día resultante; el mismo día si dias es 0
+     * @throws IllegalArgumentException si dias es negativo
+     */
+    public long sumarDiasHabiles(long dia, int dias) {
+        if (dias < 0) {
+            throw new IllegalArgumentException("La cantidad de días no puede ser negativa");
+        }
+        if (dias == 0 || todosHabiles) {
+            return dia + dias;
+        }
+        return diaHabil(dia, dias);
+    }
+
+    public LocalDate sumarDiasHabiles(LocalDate fecha, int dias) {
+        return LocalDate.ofEpochDay(sumarDiasHabiles(fecha.toEpochDay(), dias));
+    }
+
+    /**
+     * @param dia Día como LocalDate.toEpochDay()
+     * @return El mismo día si es hábil, o el siguiente día hábil
+     */
+    public long primerDiaHabil(long dia) {
+        return todosHabiles ? dia : diaHabil(dia, 0);
+    }
+
+    /**
+     * Cuenta los días hábiles en [desde, hasta).
+     *
+     * @param desde Primer día, como LocalDate.toEpochDay()
+     * @param hasta Día siguiente al último, como LocalDate.toEpochDay()
+     * @return La cantidad de días hábiles; negativa si hasta es anterior a desde
+     */
+    public int diasHabilesEntre(long desde, long hasta) {
+        if (todosHabiles) {
+            return Math.toIntExact(hasta - desde);
+        }
+        Tablas t = tablasPara(Math.min(desde, hasta), Math.max(desde, hasta));
+        return t.acumulado[(int) (hasta - t.base)] - t.acumulado[(int) (desde - t.base)];
+    }
+
+    public int diasHabilesEntre(LocalDate desde, LocalDate hasta) {
+        return diasHabilesEntre(desde.toEpochDay(), hasta.toEpochDay());
+    }
+
+    /**
+     * @return El día hábil que queda dias días hábiles después del primer día hábil desde dia
+     */
+    private long diaHabil(long dia, int dias) {
+        // Una semana tiene al menos un día hábil, pero los feriados pueden sumar más días
+        long hasta = dia + 2L * dias + 7;
+        while (true) {
+            Tablas t = tablasPara(dia, hasta);
+            long k = (long) t.acumulado[(int) (dia - t.base)] + dias;
+            if (k < t.habiles.length) {
+                return t.base + t.habiles[(int) k];
+            }
+            hasta = t.fin() + (t.fin() - t.base);
+        }
+    }
+
+    private Tablas tablasPara(long desde, long hasta) {
+        Tablas t = tablas;
+        if (t != null && t.base <= desde && hasta <= t.fin()) {
+            return t;
+        }
+        return ampliar(desde, hasta);
+    }
+
+    private synchronized Tablas ampliar(long desde, long hasta) {
+        Tablas t = tablas;
+        if (t != null && t.base <= desde && hasta <= t.fin()) {
+            return t;
+        }
+        long base = desde - MARGEN;
+        long fin = hasta + MARGEN;
+        if (t != null) {
+            long largo = t.fin() - t.base;
+            base = Math.min(base, t.base);
+            fin = Math.max(fin, t.fin());
+            if (base < t.base) {
+                base = Math.min(base, t.base - largo);
+            }
+            if (fin > t.fin()) {
+                fin = Math.max(fin, t.fin() + largo);
+            }
+        }
+        int largo = Math.toIntExact(fin - base);
+        int[] acumulado = new int[largo + 1];
+        int[] habiles = new int[largo];
+        int cantidad = 0;
+        for (int i = 0; i < largo; i++) {
+            acumulado[i] = cantidad;
+            if (esHabil(base + i)) {
+                habiles[cantidad++] = i;
+            }
+        }
+        acumulado[largo] = cantidad;
+        Tablas nuevas = new Tablas(base, acumulado, Arrays.copyOf(habiles, cantidad));
+        tablas = nuevas;
+        return nuevas;
+    }
+
+    @Override
+    public String toString() {
+        return "CalendarioLaboral{diasNoLaborables=" + diasNoLaborables + ", feriados=" + feriados.size() + "}";
+    }
+}
@@ -0,0 +1,60 @@
+package entidades;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Conjunto de proyectos y empleados modificados entre dos versiones del sistema.
+ * Se obtiene con HomeSolution.tomarCambiosPendientes() y permite guardar
+ * solamente las entidades que cambiaron desde el corte anterior.
+ *
+ * Invariantes:
+ * - versionDesde <= versionHasta
+ * - los conjuntos no son null (pueden estar vacíos)
+ */
+public class CambiosPendientes {
+    private final long versionDesde;
+    private final long versionHasta;
+    private final Set<Integer> proyectos;
+    private final Set<Integer> empleados;
+
+    public CambiosPendientes(long versionDesde, long versionHasta, Set<Integer> proyectos, Set<Integer> empleados) {
+        if (versionDesde > versionHasta) {
+            throw new IllegalArgumentException("La versión inicial no puede ser mayor que la final");
+        }
+        if (proyectos == null || empleados == null) {
+            throw new IllegalArgumentException("Los conjuntos de cambios no pueden ser nulos");
+        }
+        this.versionDesde = versionDesde;
+        this.versionHasta = versionHasta;
+        this.proyectos = Collections.unmodifiableSet(new LinkedHashSet<>(proyectos));
+        this.empleados = Collections.unmodifiableSet(new LinkedHashSet<>(empleados));
+    }
+
+    public long getVersionDesde() {
+        return versionDesde;
+    }
+
+    public long getVersionHasta() {
+        return versionHasta;
+    }
+
+    /**
+     * @return Números de los proyectos modificados, en orden de primera modificación
+     */
+    public Set<Integer> getProyectos() {
+        return proyectos;
+    }
+
+    /**
+     * @return Legajos de los empleados modificados, en orden de primera modificación
+     */
+    public Set<Integer> getEmpleados() {
+        return empleados;
+    }
+
+    public boolean estaVacio() {
+        return proyectos.isEmpty() && empleados.isEmpty();
+    }
+}
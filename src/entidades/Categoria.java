@@ -0,0 +1,61 @@
+package entidades;
+
+/**
+ * Categorías de los empleados de planta, de menor a mayor experiencia.
+ *
+ * - INICIAL: Para empleados nuevos
+ * - TECNICO: Para empleados con experiencia media (se muestra como "TÉCNICO")
+ * - EXPERTO: Para empleados con alta experiencia
+ *
+ * Una categoría cubre las tareas que requieren esa categoría o una menor.
+ */
+public enum Categoria {
+    INICIAL("INICIAL"),
+    TECNICO("TÉCNICO"),
+    EXPERTO("EXPERTO");
+
+    private final String nombre;
+
+    Categoria(String nombre) {
+        this.nombre = nombre;
+    }
+
+    /**
+     * @return El nombre de la categoría tal como se muestra
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * @param requerida La categoría que pide una tarea
+     * @return true si un empleado de esta categoría puede hacer la tarea
+     */
+    public boolean cubre(Categoria requerida) {
+        return compareTo(requerida) >= 0;
+    }
+
+    /**
+     * Busca una categoría por su nombre, con o sin acento y sin distinguir
+     * mayúsculas.
+     *
+     * @param nombre El nombre de la categoría
+     * @return La categoría, o null si el nombre no corresponde a ninguna
+     */
+    public static Categoria desdeNombre(String nombre) {
+        if (nombre == null) {
+            return null;
+        }
+        for (Categoria categoria : values()) {
+            if (categoria.nombre.equalsIgnoreCase(nombre) || categoria.name().equalsIgnoreCase(nombre)) {
+                return categoria;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return nombre;
+    }
+}
@@ -0,0 +1,287 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Cola de tareas sin asignar que esperan un empleado disponible.
+ * Por defecto se atienden primero las tareas de los proyectos que empiezan
+ * antes y, a igual fecha, las que llegaron antes; el orden es configurable.
+ *
+ * Hay una cola por categoría requerida (y otra para las tareas que no
+ * requieren ninguna), como los pools de IndiceCategorias. Cuando se libera un
+ * empleado solo se miran los frentes de las colas de tareas que puede hacer,
+ * así que nunca hace falta sacar y volver a poner tareas que no le sirven.
+ *
+ * Estructuras de datos:
+ * - List<PriorityQueue<TareaEnEspera>>: una por categoría (la posición 0 es
+ *   sin categoría); encolar y obtener la siguiente en O(log n)
+ * - Map<Integer, Map<String, TareaEnEspera>>: entrada vigente de cada tarea en
+ *   espera. Quitar una tarea solo la borra de este mapa (O(1)); la entrada
+ *   queda en el heap y se descarta cuando llega al frente (borrado diferido).
+ *
+ * Invariantes:
+ * - Una entrada de un heap es válida si es la vigente para su tarea
+ * - Cada entrada vigente está en el heap de su categoría requerida
+ */
+public class ColaEspera {
+    public static final Comparator<TareaEnEspera> POR_FECHA_INICIO =
+            Comparator.comparingInt(TareaEnEspera::getDiaInicioProyecto)
+                    .thenComparingLong(TareaEnEspera::getSecuencia);
+
+    private Comparator<TareaEnEspera> prioridad;
+    private List<PriorityQueue<TareaEnEspera>> colas;
+    private final Map<Integer, Map<String, TareaEnEspera>> vigentes;
+    private long siguienteSecuencia;
+    private int tamanio;
+
+    public ColaEspera() {
+        this(POR_FECHA_INICIO);
+    }
+
+    /**
+     * @param prioridad Orden en que se atienden las tareas (la menor primero)
+     * @throws IllegalArgumentException si la prioridad es nula
+     */
+    public ColaEspera(Comparator<TareaEnEspera> prioridad) {
+        if (prioridad == null) {
+            throw new IllegalArgumentException("La prioridad no puede ser nula");
+        }
+        this.prioridad = prioridad;
+        this.colas = nuevasColas(prioridad);
+        this.vigentes = new HashMap<>();
+        this.siguienteSecuencia = 1;
+        this.tamanio = 0;
+    }
+
+    private static List<PriorityQueue<TareaEnEspera>> nuevasColas(Comparator<TareaEnEspera> prioridad) {
+        int cantidad = Categoria.values().length + 1;
+        List<PriorityQueue<TareaEnEspera>> colas = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            colas.add(new PriorityQueue<>(prioridad));
+        }
+        return colas;
+    }
+
+    private static int posicion(Categoria categoria) {
+        return categoria == null ? 0 : categoria.ordinal() + 1;
+    }
+
+    /**
+     * Pone una tarea sin categoría requerida en espera.
+     *
+     * @see #encolar(int, String, int, Categoria)
+     */
+    public boolean encolar(int numeroProyecto, String titulo, int diaInicioProyecto) {
+        return encolar(numeroProyecto, titulo, diaInicioProyecto, null);
+    }
+
+    /**
+     * Pone una tarea en espera. Si ya estaba esperando, conserva su lugar.
+     *
+     * @param numeroProyecto Número del proyecto
+     * @param titulo Título de la tarea
+     * @param diaInicioProyecto Inicio del proyecto, en días desde 1970-01-01
+     * @param categoriaRequerida Categoría requerida por la tarea, o null
+     * @return true si la tarea no estaba en espera
+     */
+    public boolean encolar(int numeroProyecto, String titulo, int diaInicioProyecto,
+            Categoria categoriaRequerida) {
+        Map<String, TareaEnEspera> tareas = vigentes.computeIfAbsent(numeroProyecto, n -> new HashMap<>());
+        if (tareas.containsKey(titulo)) {
+            return false;
+        }
+        TareaEnEspera tarea = new TareaEnEspera(numeroProyecto, titulo, diaInicioProyecto, siguienteSecuencia++,
+                categoriaRequerida);
+        tareas.put(titulo, tarea);
+        colas.get(posicion(categoriaRequerida)).add(tarea);
+        tamanio++;
+        return true;
+    }
+
+    /**
+     * Devuelve a la cola una tarea que se sacó con siguiente() sin poder
+     * asignarla. Conserva su lugar original entre las tareas de la misma prioridad.
+     *
+     * @param tarea La tarea a devolver
+     * @return true si la tarea no estaba en espera
+     */
+    public boolean devolver(TareaEnEspera tarea) {
+        Map<String, TareaEnEspera> tareas = vigentes.computeIfAbsent(tarea.getNumeroProyecto(),
+                n -> new HashMap<>());
+        if (tareas.containsKey(tarea.getTitulo())) {
+            return false;
+        }
+        tareas.put(tarea.getTitulo(), tarea);
+        colas.get(posicion(tarea.getCategoriaRequerida())).add(tarea);
+        tamanio++;
+        return true;
+    }
+
+    /**
+     * Cambia la categoría requerida de una tarea en espera, que pasa a la cola
+     * de su nueva categoría conservando su lugar. O(log n).
+     *
+     * @return true si la tarea estaba en espera
+     */
+    public boolean cambiarCategoria(int numeroProyecto, String titulo, Categoria categoriaRequerida) {
+        Map<String, TareaEnEspera> tareas = vigentes.get(numeroProyecto);
+        TareaEnEspera anterior = tareas == null ? null : tareas.get(titulo);
+        if (anterior == null) {
+            return false;
+        }
+        TareaEnEspera nueva = new TareaEnEspera(numeroProyecto, titulo, anterior.getDiaInicioProyecto(),
+                anterior.getSecuencia(), categoriaRequerida);
+        // La entrada anterior queda en su heap, pero ya no es la vigente
+        tareas.put(titulo, nueva);
+        colas.get(posicion(categoriaRequerida)).add(nueva);
+        compactarSiHaceFalta();
+        return true;
+    }
+
+    /**
+     * Saca de la cola la tarea con mayor prioridad, de cualquier categoría.
+     *
+     * @return La siguiente tarea en espera, o null si no hay ninguna
+     */
+    public TareaEnEspera siguiente() {
+        return sacarMejor(colas.size() - 1);
+    }
+
+    /**
+     * Saca de la cola la tarea con mayor prioridad entre las que puede hacer
+     * un empleado: las que no requieren categoría y, si es de planta, las que
+     * requieren una categoría que la suya cubre. Solo mira los frentes de esas
+     * colas, O(log n).
+     *
+     * @param categoria Categoría del empleado, o null si es contratado
+     * @return La siguiente tarea que puede hacer, o null si no hay ninguna
+     */
+    public TareaEnEspera siguientePara(Categoria categoria) {
+        // Las categorías están ordenadas de menor a mayor: cubre a las de ordinal menor o igual
+        return sacarMejor(categoria == null ? 0 : posicion(categoria));
+    }
+
+    /**
+     * Saca la mejor tarea entre los frentes de las colas 0 a 'hasta'.
+     */
+    private TareaEnEspera sacarMejor(int hasta) {
+        PriorityQueue<TareaEnEspera> mejor = null;
+        for (int i = 0; i <= hasta; i++) {
+            PriorityQueue<TareaEnEspera> cola = colas.get(i);
+            descartarInvalidas(cola);
+            if (!cola.isEmpty() && (mejor == null || prioridad.compare(cola.peek(), mejor.peek()) < 0)) {
+                mejor = cola;
+            }
+        }
+        if (mejor == null) {
+            return null;
+        }
+        TareaEnEspera tarea = mejor.poll();
+        quitar(tarea.getNumeroProyecto(), tarea.getTitulo());
+        return tarea;
+    }
+
+    private void descartarInvalidas(PriorityQueue<TareaEnEspera> cola) {
+        while (!cola.isEmpty() && !esVigente(cola.peek())) {
+            cola.poll();
+        }
+    }
+
+    /**
+     * Quita una tarea de la espera.
+     *
+     * @return true si la tarea estaba esperando
+     */
+    public boolean quitar(int numeroProyecto, String titulo) {
+        Map<String, TareaEnEspera> tareas = vigentes.get(numeroProyecto);
+        if (tareas == null || tareas.remove(titulo) == null) {
+            return false;
+        }
+        if (tareas.isEmpty()) {
+            vigentes.remove(numeroProyecto);
+        }
+        tamanio--;
+        compactarSiHaceFalta();
+        return true;
+    }
+
+    /**
+     * Quita todas las tareas en espera de un proyecto.
+     */
+    public void quitarProyecto(int numeroProyecto) {
+        Map<String, TareaEnEspera> tareas = vigentes.remove(numeroProyecto);
+        if (tareas != null) {
+            tamanio -= tareas.size();
+            compactarSiHaceFalta();
+        }
+    }
+
+    public boolean estaEnEspera(int numeroProyecto, String titulo) {
+        Map<String, TareaEnEspera> tareas = vigentes.get(numeroProyecto);
+        return tareas != null && tareas.containsKey(titulo);
+    }
+
+    /**
+     * Cambia el orden en que se atienden las tareas. Reconstruye los heaps con
+     * las tareas vigentes en O(n).
+     *
+     * @param prioridad El nuevo orden (la menor primero)
+     * @throws IllegalArgumentException si la prioridad es nula
+     */
+    public void cambiarPrioridad(Comparator<TareaEnEspera> prioridad) {
+        if (prioridad == null) {
+            throw new IllegalArgumentException("La prioridad no puede ser nula");
+        }
+        List<PriorityQueue<TareaEnEspera>> nuevas = nuevasColas(prioridad);
+        for (Map<String, TareaEnEspera> tareas : vigentes.values()) {
+            for (TareaEnEspera tarea : tareas.values()) {
+                nuevas.get(posicion(tarea.getCategoriaRequerida())).add(tarea);
+            }
+        }
+        this.prioridad = prioridad;
+        this.colas = nuevas;
+    }
+
+    /**
+     * @return Las tareas en espera, en el orden en que se atenderían
+     */
+    public List<TareaEnEspera> getTareas() {
+        List<TareaEnEspera> tareas = new ArrayList<>(tamanio);
+        for (Map<String, TareaEnEspera> delProyecto : vigentes.values()) {
+            tareas.addAll(delProyecto.values());
+        }
+        tareas.sort(prioridad);
+        return tareas;
+    }
+
+    public int size() {
+        return tamanio;
+    }
+
+    public boolean isEmpty() {
+        return tamanio == 0;
+    }
+
+    /**
+     * Evita que las entradas descartadas ocupen más lugar que las vigentes.
+     */
+    private void compactarSiHaceFalta() {
+        int entradas = 0;
+        for (PriorityQueue<TareaEnEspera> cola : colas) {
+            entradas += cola.size();
+        }
+        if (entradas > 2 * tamanio + 64) {
+            cambiarPrioridad(prioridad);
+        }
+    }
+
+    private boolean esVigente(TareaEnEspera tarea) {
+        Map<String, TareaEnEspera> tareas = vigentes.get(tarea.getNumeroProyecto());
+        return tareas != null && tareas.get(tarea.getTitulo()) == tarea;
+    }
+}
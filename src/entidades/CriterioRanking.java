@@ -0,0 +1,15 @@
+package entidades;
+
+/**
+ * Criterios por los que se puede armar un ranking de empleados.
+ *
+ * - RETRASOS: cantidad de retrasos registrados
+ * - COSTO_ACUMULADO: suma del costo de las tareas que finalizó
+ * - DIAS_ASIGNADOS: suma de los días estimados de las tareas que tiene o tuvo
+ *   asignadas; se descuentan las que se le reasignaron a otro o se cancelaron
+ */
+public enum CriterioRanking {
+    RETRASOS,
+    COSTO_ACUMULADO,
+    DIAS_ASIGNADOS
+}
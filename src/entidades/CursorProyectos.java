@@ -0,0 +1,45 @@
+package entidades;
+
+/**
+ * Posición dentro de un listado ordenado de proyectos.
+ * Identifica al último proyecto de una página por su valor de orden y su
+ * número, así la página siguiente continúa desde ahí aunque se agreguen
+ * o modifiquen otros proyectos entre consultas.
+ */
+public final class CursorProyectos implements Comparable<CursorProyectos> {
+    private final double valor;
+    private final int numero;
+
+    CursorProyectos(double valor, int numero) {
+        this.valor = valor;
+        this.numero = numero;
+    }
+
+    double getValor() {
+        return valor;
+    }
+
+    int getNumero() {
+        return numero;
+    }
+
+    @Override
+    public int compareTo(CursorProyectos otro) {
+        int comparacion = Double.compare(valor, otro.valor);
+        return comparacion != 0 ? comparacion : Integer.compare(numero, otro.numero);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof CursorProyectos)) {
+            return false;
+        }
+        CursorProyectos otro = (CursorProyectos) o;
+        return Double.compare(valor, otro.valor) == 0 && numero == otro.numero;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(valor) + numero;
+    }
+}
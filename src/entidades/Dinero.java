@@ -0,0 +1,177 @@
+package entidades;
+
+import java.math.RoundingMode;
+
+/**
+ * Aritmética de montos en punto fijo: los montos se representan como long
+ * en centavos, así las sumas son exactas y el redondeo ocurre solo donde se
+ * indica, con un modo de redondeo explícito.
+ *
+ * Todos los métodos son estáticos y trabajan sobre long, sin crear objetos,
+ * para poder usarse en los cálculos de costo sin el costo de BigDecimal.
+ *
+ * Los desbordes se detectan: las multiplicaciones y las conversiones de
+ * montos que no entran en un long lanzan ArithmeticException en lugar de dar
+ * un resultado incorrecto.
+ */
+public final class Dinero {
+    /** Centavos por unidad monetaria */
+    public static final long ESCALA = 100;
+    /** Milésimos por unidad, para cantidades como días u horas */
+    public static final long MILESIMOS = 1000;
+    /** Redondeo que usa el sistema para los costos (redondeo bancario, sin sesgo al acumular) */
+    public static final RoundingMode REDONDEO = RoundingMode.HALF_EVEN;
+
+    // Diferencia por debajo de la cual un producto en double se considera entero
+    private static final double TOLERANCIA = 1e-6;
+    // 2^63: los valores escalados de este módulo o mayor no entran en un long
+    private static final double LIMITE_LONG = 0x1p63;
+
+    private Dinero() {
+    }
+
+    /**
+     * Convierte un monto a centavos.
+     *
+     * @param monto El monto en unidades
+     * @param modo Cómo redondear las fracciones de centavo
+     * @return El monto en centavos
+     */
+    public static long centavos(double monto, RoundingMode modo) {
+        return escalar(monto, ESCALA, modo);
+    }
+
+    /**
+     * Convierte una cantidad (días, horas) a milésimos, redondeando al más cercano.
+     *
+     * @param cantidad La cantidad
+     * @return La cantidad en milésimos
+     */
+    public static long milesimos(double cantidad) {
+        return escalar(cantidad, MILESIMOS, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * @param centavos Un monto en centavos
+     * @return El monto en unidades
+     */
+    public static double aDouble(long centavos) {
+        return (double) centavos / ESCALA;
+    }
+
+    /**
+     * Multiplica un monto por la fracción factor / divisor.
+     *
+     * @param centavos El monto en centavos
+     * @param factor Numerador de la fracción
+     * @param divisor Denominador de la fracción, mayor que 0
+     * @param modo Cómo redondear el resultado
+     * @return El resultado en centavos
+     * @throws ArithmeticException si hay desborde o el modo es UNNECESSARY y el resultado no es exacto
+     */
+    public static long multiplicar(long centavos, long factor, long divisor, RoundingMode modo) {
+        return dividir(Math.multiplyExact(centavos, factor), divisor, modo);
+    }
+
+    /**
+     * @param centavos El monto en centavos
+     * @param porcentaje El porcentaje a aplicar (por ejemplo 135 para multiplicar por 1,35)
+     * @param modo Cómo redondear el resultado
+     * @return El resultado en centavos
+     */
+    public static long aplicarPorcentaje(long centavos, long porcentaje, RoundingMode modo) {
+        return multiplicar(centavos, porcentaje, 100, modo);
+    }
+
+    /**
+     * División entera con el modo de redondeo indicado.
+     *
+     * @param numerador El dividendo
+     * @param divisor El divisor, mayor que 0
+     * @param modo Cómo redondear el cociente
+     * @return El cociente redondeado
+     * @throws IllegalArgumentException si el divisor no es positivo
+     * @throws ArithmeticException si el modo es UNNECESSARY y la división no es exacta
+     */
+    public static long dividir(long numerador, long divisor, RoundingMode modo) {
+        if (divisor <= 0) {
+            throw new IllegalArgumentException("El divisor debe ser mayor que 0");
+        }
+        long cociente = numerador / divisor;
+        long resto = numerador % divisor;
+        if (resto == 0) {
+            return cociente;
+        }
+        int signo = numerador < 0 ? -1 : 1;
+        // Comparación de 2 * |resto| con el divisor sin desbordar
+        long restoAbs = Math.abs(resto);
+        int mitad = Long.compare(restoAbs, divisor - restoAbs);
+        boolean alejarDeCero;
+        switch (modo) {
+            case UP:
+                alejarDeCero = true;
+                break;
+            case DOWN:
+                alejarDeCero = false;
+                break;
+            case CEILING:
+                alejarDeCero = signo > 0;
+                break;
+            case FLOOR:
+                alejarDeCero = signo < 0;
+                break;
+            case HALF_UP:
+                alejarDeCero = mitad >= 0;
+                break;
+            case HALF_DOWN:
+                alejarDeCero = mitad > 0;
+                break;
+            case HALF_EVEN:
+                alejarDeCero = mitad > 0 || (mitad == 0 && (cociente & 1) != 0);
+                break;
+            default:
+                throw new ArithmeticException("La división no es exacta");
+        }
+        return alejarDeCero ? cociente + signo : cociente;
+    }
+
+    /**
+     * Multiplica un double por la escala y lo redondea a long. Los productos
+     * que quedan a menos de una millonésima de un entero se toman como ese
+     * entero, para que 0.1 * 100 no se redondee hacia arriba por el error del double.
+     *
+     * @throws ArithmeticException si el valor escalado no entra en un long
+     */
+    private static long escalar(double valor, long escala, RoundingMode modo) {
+        if (Double.isNaN(valor) || Double.isInfinite(valor)) {
+            throw new IllegalArgumentException("El valor debe ser un número finito");
+        }
+        double escalado = valor * escala;
+        // A partir de 2^53 los double son enteros, así que redondear no puede pasar el límite
+        if (Math.abs(escalado) >= LIMITE_LONG) {
+            throw new ArithmeticException("El monto no entra en un long");
+        }
+        double entero = Math.rint(escalado);
+        if (Math.abs(escalado - entero) < TOLERANCIA) {
+            return (long) entero;
+        }
+        switch (modo) {
+            case UP:
+                return (long) (escalado > 0 ? Math.ceil(escalado) : Math.floor(escalado));
+            case DOWN:
+                return (long) escalado;
+            case CEILING:
+                return (long) Math.ceil(escalado);
+            case FLOOR:
+                return (long) Math.floor(escalado);
+            case HALF_UP:
+                return (long) (Math.signum(escalado) * Math.floor(Math.abs(escalado) + 0.5));
+            case HALF_DOWN:
+                return (long) (Math.signum(escalado) * Math.ceil(Math.abs(escalado) - 0.5));
+            case HALF_EVEN:
+                return (long) entero;
+            default:
+                throw new ArithmeticException("El valor no es exacto");
+        }
+    }
+}
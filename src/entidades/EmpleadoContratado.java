@@ -1,5 +1,7 @@
 package entidades;
 
+import java.time.LocalDate;
+
 /**
  * Representa un empleado contratado en el sistema.
  * Los empleados contratados cobran por hora trabajada.
@@ -19,7 +21,8 @@ public class EmpleadoContratado implements IEmpleado {
     private static int siguienteLegajo = 1;
     private String nombre;
     private int legajo;
-    private double valorHora;
+    // Valor por hora en centavos, con sus cambios en el tiempo
+    private HistorialTarifas tarifas;
     private boolean disponible;
     private int cantidadRetrasos;
 
@@ -45,7 +48,7 @@ public class EmpleadoContratado implements IEmpleado {
         }
         this.nombre = nombre;
         this.legajo = siguienteLegajo++;
-        this.valorHora = valorHora;
+        this.tarifas = new HistorialTarifas(Dinero.centavos(valorHora, Dinero.REDONDEO));
         this.disponible = true;
         this.cantidadRetrasos = 0;
     }
@@ -90,13 +93,73 @@ public class EmpleadoContratado implements IEmpleado {
      */
     @Override
     public double calcularCosto(double dias) {
+        return calcularCosto(dias, tuvoRetrasos());
+    }
+
+    /**
+     * Los retrasos no modifican el costo de un empleado contratado.
+     */
+    @Override
+    public double calcularCosto(double dias, boolean conRetrasos) {
+        return Dinero.aDouble(calcularCostoCentavos(dias, conRetrasos));
+    }
+
+    /**
+     * Los retrasos no modifican el costo de un empleado contratado.
+     * Se usa el último valor por hora registrado.
+     */
+    @Override
+    public long calcularCostoCentavos(double dias, boolean conRetrasos) {
+        return costoCentavos(dias, tarifas.ultima());
+    }
+
+    /**
+     * Los retrasos no modifican el costo de un empleado contratado.
+     * Se usa el valor por hora vigente en la fecha.
+     */
+    @Override
+    public long calcularCostoCentavos(double dias, boolean conRetrasos, long dia) {
+        return costoCentavos(dias, tarifas.vigente(dia));
+    }
+
+    private static long costoCentavos(double dias, long valorHoraCentavos) {
         if (dias < 0) {
             throw new IllegalArgumentException("Los días no pueden ser negativos");
         }
         // Para medio día o menos se consideran 4 horas
         // Para más de medio día se calculan 8 horas por día
-        double horas = dias <= 0.5 ? 4 : dias * 8;
-        return valorHora * horas;
+        long milesimosHora = dias <= 0.5 ? 4 * Dinero.MILESIMOS : Dinero.milesimos(dias) * 8;
+        return Dinero.multiplicar(valorHoraCentavos, milesimosHora, Dinero.MILESIMOS, Dinero.REDONDEO);
+    }
+
+    /**
+     * @return Cantidad de valores por hora registrados, incluido el inicial
+     */
+    int cantidadTarifas() {
+        return tarifas.size();
+    }
+
+    /**
+     * @return El último valor por hora registrado del empleado
+     */
+    public double getValorHora() {
+        return Dinero.aDouble(tarifas.ultima());
+    }
+
+    /**
+     * @param fecha La fecha a consultar
+     * @return El valor por hora vigente en esa fecha
+     */
+    public double getValorHora(LocalDate fecha) {
+        return Dinero.aDouble(tarifas.vigente(fecha));
+    }
+
+    @Override
+    public void actualizarTarifa(LocalDate desde, double valorHora) {
+        if (valorHora <= 0) {
+            throw new IllegalArgumentException("El valor por hora debe ser mayor que 0");
+        }
+        tarifas.agregar(desde, Dinero.centavos(valorHora, Dinero.REDONDEO));
     }
 
     @Override
@@ -114,7 +177,7 @@ public class EmpleadoContratado implements IEmpleado {
         return "EmpleadoContratado{" +
                 "nombre='" + nombre + '\'' +
                 ", legajo=" + legajo +
-                ", valorHora=" + valorHora +
+                ", valorHora=" + getValorHora() +
                 ", retrasos=" + cantidadRetrasos +
                 '}';
     }
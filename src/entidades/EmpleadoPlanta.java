@@ -1,5 +1,7 @@
 package entidades;
 
+import java.time.LocalDate;
+
 /**
  * Representa un empleado de planta permanente en el sistema.
  * Los empleados de planta cobran por día y tienen una categoría asignada.
@@ -21,17 +23,19 @@ public class EmpleadoPlanta implements IEmpleado {
     private static int siguienteLegajo = 1;
     private String nombre;
     private int legajo;
-    private double valorDia;
-    private String categoria;
+    // Valor por día en centavos, con sus cambios en el tiempo
+    private HistorialTarifas tarifas;
+    private Categoria categoria;
     private boolean disponible;
     private int cantidadRetrasos;
     private static final double BONUS_SIN_RETRASOS = 0.02; // 2% de bonus
+    private static final long PORCENTAJE_CON_BONUS = 102;
 
     // IREP:
     // - nombre no puede ser null ni vacío
     // - legajo debe ser > 0
     // - valorDia debe ser > 0
-    // - categoria debe ser "INICIAL", "TÉCNICO" o "EXPERTO"
+    // - categoria no puede ser null
     // - cantidadRetrasos debe ser >= 0
 
     /**
@@ -54,19 +58,30 @@ public class EmpleadoPlanta implements IEmpleado {
      * @throws IllegalArgumentException si algún parámetro es inválido
      */
     public EmpleadoPlanta(String nombre, double valorDia, String categoria) {
+        this(nombre, valorDia, Categoria.desdeNombre(categoria));
+    }
+
+    /**
+     * Constructor para crear un nuevo empleado de planta con una categoría conocida.
+     *
+     * @param nombre El nombre del empleado
+     * @param valorDia El valor que cobra por día trabajado
+     * @param categoria La categoría del empleado
+     * @throws IllegalArgumentException si algún parámetro es inválido
+     */
+    public EmpleadoPlanta(String nombre, double valorDia, Categoria categoria) {
         if (nombre == null || nombre.trim().isEmpty()) {
             throw new IllegalArgumentException("El nombre no puede ser vacío");
         }
         if (valorDia <= 0) {
             throw new IllegalArgumentException("El valor por día debe ser mayor que 0");
         }
-        if (categoria == null
-                || (!categoria.equals("INICIAL") && !categoria.equals("TÉCNICO") && !categoria.equals("EXPERTO"))) {
+        if (categoria == null) {
             throw new IllegalArgumentException("La categoría debe ser INICIAL, TÉCNICO o EXPERTO");
         }
         this.nombre = nombre;
         this.legajo = siguienteLegajo++;
-        this.valorDia = valorDia;
+        this.tarifas = new HistorialTarifas(Dinero.centavos(valorDia, Dinero.REDONDEO));
         this.categoria = categoria;
         this.disponible = true;
         this.cantidadRetrasos = 0;
@@ -104,13 +119,38 @@ public class EmpleadoPlanta implements IEmpleado {
 
     @Override
     public double calcularCosto(double dias) {
+        return calcularCosto(dias, tuvoRetrasos());
+    }
+
+    @Override
+    public double calcularCosto(double dias, boolean conRetrasos) {
+        return Dinero.aDouble(calcularCostoCentavos(dias, conRetrasos));
+    }
+
+    /**
+     * Se usa el último valor por día registrado.
+     */
+    @Override
+    public long calcularCostoCentavos(double dias, boolean conRetrasos) {
+        return costoCentavos(dias, conRetrasos, tarifas.ultima());
+    }
+
+    /**
+     * Se usa el valor por día vigente en la fecha.
+     */
+    @Override
+    public long calcularCostoCentavos(double dias, boolean conRetrasos, long dia) {
+        return costoCentavos(dias, conRetrasos, tarifas.vigente(dia));
+    }
+
+    private static long costoCentavos(double dias, boolean conRetrasos, long valorDiaCentavos) {
         // Medio día cuenta como día completo
-        double diasReales = Math.ceil(dias);
-        double costo = valorDia * diasReales;
+        long diasReales = (long) Math.ceil(dias);
+        long costo = Math.multiplyExact(valorDiaCentavos, diasReales);
 
         // Si no tiene retrasos, aplica bonus del 2%
-        if (!tuvoRetrasos()) {
-            costo *= (1 + BONUS_SIN_RETRASOS);
+        if (!conRetrasos) {
+            costo = Dinero.aplicarPorcentaje(costo, PORCENTAJE_CON_BONUS, Dinero.REDONDEO);
         }
 
         return costo;
@@ -126,7 +166,47 @@ public class EmpleadoPlanta implements IEmpleado {
         return cantidadRetrasos;
     }
 
-    public String getCategoria() {
+    /**
+     * @return Cantidad de valores por día registrados, incluido el inicial
+     */
+    int cantidadTarifas() {
+        return tarifas.size();
+    }
+
+    /**
+     * @return El valor por día del empleado
+     */
+    public double getValorDia() {
+        return Dinero.aDouble(tarifas.ultima());
+    }
+
+    /**
+     * @param fecha La fecha a consultar
+     * @return El valor por día vigente en esa fecha
+     */
+    public double getValorDia(LocalDate fecha) {
+        return Dinero.aDouble(tarifas.vigente(fecha));
+    }
+
+    @Override
+    public void actualizarTarifa(LocalDate desde, double valorDia) {
+        if (valorDia <= 0) {
+            throw new IllegalArgumentException("El valor por día debe ser mayor que 0");
+        }
+        tarifas.agregar(desde, Dinero.centavos(valorDia, Dinero.REDONDEO));
+    }
+
+    /**
+     * Valor que cuesta cada día del empleado, incluido el bonus si no tuvo retrasos.
+     *
+     * @return El último valor por día, con el 2% adicional si no tuvo retrasos
+     */
+    public double getValorDiaEfectivo() {
+        double valorDia = getValorDia();
+        return tuvoRetrasos() ? valorDia : valorDia * (1 + BONUS_SIN_RETRASOS);
+    }
+
+    public Categoria getCategoria() {
         return categoria;
     }
 
@@ -135,7 +215,7 @@ public class EmpleadoPlanta implements IEmpleado {
         return "EmpleadoPlanta{" +
                 "nombre='" + nombre + '\'' +
                 ", legajo=" + legajo +
-                ", valorDia=" + valorDia +
+                ", valorDia=" + getValorDia() +
                 ", categoria='" + categoria + '\'' +
                 ", retrasos=" + cantidadRetrasos +
                 '}';
@@ -0,0 +1,203 @@
+package entidades;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Escenario hipotético sobre un proyecto para simular reasignaciones y retrasos
+ * sin modificar el sistema.
+ *
+ * Funcionamiento:
+ * - La base es una foto inmutable del proyecto (tareas, responsables, retrasos y
+ *   fechas) que comparten todos los escenarios derivados de ella
+ * - Cada operación (reasignar, retrasar) devuelve un escenario nuevo que solo
+ *   guarda esa operación y una referencia al escenario anterior; el original no
+ *   cambia. Así se pueden derivar miles de escenarios sin copiar el proyecto
+ * - Como nada se modifica, los escenarios pueden evaluarse en paralelo
+ *
+ * Los costos se calculan con las mismas reglas que Proyecto.actualizarCostoTotal():
+ * costo de cada tarea asignada según su duración estimada, con margen 1.25 si
+ * alguna tarea tiene retrasos o 1.35 si no. Un retraso simulado sobre un
+ * empleado de planta sin retrasos le quita el bonus en todas sus tareas.
+ */
+public class EscenarioCostos {
+    private final Base base;
+    private final EscenarioCostos anterior;
+    private final int tarea;
+    private final IEmpleado empleado;
+    private final double retraso;
+
+    /**
+     * Foto inmutable del proyecto compartida por todos los escenarios.
+     */
+    private static class Base {
+        private final String[] titulos;
+        private final double[] duraciones;
+        private final int[] diasInicio;
+        private final double[] retrasos;
+        private final IEmpleado[] responsables;
+        private final Map<Integer, IEmpleado> empleados;
+        private final Set<Integer> empleadosConRetrasos;
+        private final LocalDate fechaRealFin;
+        private final CalendarioLaboral calendario;
+        private final ResultadoBase actual;
+
+        Base(Proyecto proyecto, Map<Integer, IEmpleado> empleados) {
+            List<Tarea> tareas = proyecto.getTareas();
+            this.titulos = new String[tareas.size()];
+            this.duraciones = new double[tareas.size()];
+            this.diasInicio = new int[tareas.size()];
+            this.retrasos = new double[tareas.size()];
+            this.responsables = new IEmpleado[tareas.size()];
+            for (int i = 0; i < tareas.size(); i++) {
+                titulos[i] = tareas.get(i).getTitulo();
+                duraciones[i] = tareas.get(i).getDuracionEstimada();
+                diasInicio[i] = proyecto.getDiaInicioTarea(tareas.get(i));
+                retrasos[i] = tareas.get(i).getDiasRetraso();
+                responsables[i] = tareas.get(i).getEmpleadoAsignado();
+            }
+            this.empleados = new HashMap<>(empleados);
+            this.empleadosConRetrasos = new HashSet<>();
+            for (IEmpleado empleado : empleados.values()) {
+                if (empleado.tuvoRetrasos()) {
+                    empleadosConRetrasos.add(empleado.getLegajo());
+                }
+            }
+            this.fechaRealFin = LocalDate.ofEpochDay(proyecto.getDiaFin());
+            this.calendario = proyecto.getCalendario();
+            this.actual = calcular(responsables, retrasos, empleadosConRetrasos, fechaRealFin, duraciones,
+                    diasInicio);
+        }
+
+        int indiceDe(String titulo) {
+            for (int i = 0; i < titulos.length; i++) {
+                if (titulos[i].equals(titulo)) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("Tarea no encontrada");
+        }
+    }
+
+    private static class ResultadoBase {
+        private final double costo;
+        private final double margen;
+        private final LocalDate fechaRealFin;
+
+        ResultadoBase(double costo, double margen, LocalDate fechaRealFin) {
+            this.costo = costo;
+            this.margen = margen;
+            this.fechaRealFin = fechaRealFin;
+        }
+    }
+
+    private EscenarioCostos(Base base, EscenarioCostos anterior, int tarea, IEmpleado empleado, double retraso) {
+        this.base = base;
+        this.anterior = anterior;
+        this.tarea = tarea;
+        this.empleado = empleado;
+        this.retraso = retraso;
+    }
+
+    /**
+     * Crea el escenario inicial (sin cambios) de un proyecto.
+     *
+     * @param proyecto El proyecto a simular
+     * @param empleados Empleados del sistema, candidatos para reasignaciones
+     * @return El escenario base
+     */
+    static EscenarioCostos de(Proyecto proyecto, Map<Integer, IEmpleado> empleados) {
+        return new EscenarioCostos(new Base(proyecto, empleados), null, -1, null, 0);
+    }
+
+    /**
+     * Deriva un escenario en el que la tarea pasa a estar a cargo del empleado.
+     *
+     * @param titulo Título de la tarea
+     * @param legajo Legajo del nuevo responsable
+     * @return El nuevo escenario; este no se modifica
+     * @throws IllegalArgumentException si la tarea o el empleado no existen
+     */
+    public EscenarioCostos reasignar(String titulo, int legajo) {
+        IEmpleado nuevo = base.empleados.get(legajo);
+        if (nuevo == null) {
+            throw new IllegalArgumentException("Empleado no encontrado");
+        }
+        return new EscenarioCostos(base, this, base.indiceDe(titulo), nuevo, 0);
+    }
+
+    /**
+     * Deriva un escenario en el que la tarea acumula días de retraso.
+     *
+     * @param titulo Título de la tarea
+     * @param dias Días de retraso
+     * @return El nuevo escenario; este no se modifica
+     * @throws IllegalArgumentException si la tarea no existe o los días no son positivos
+     */
+    public EscenarioCostos retrasar(String titulo, double dias) {
+        if (dias <= 0) {
+            throw new IllegalArgumentException("Los días de retraso deben ser positivos");
+        }
+        return new EscenarioCostos(base, this, base.indiceDe(titulo), null, dias);
+    }
+
+    /**
+     * Evalúa el escenario aplicando sus operaciones sobre una copia de la base.
+     * Cuesta O(tareas + operaciones del escenario).
+     *
+     * @return Costo, margen y fecha real de fin actuales y simulados
+     */
+    public ResultadoSimulacion evaluar() {
+        IEmpleado[] responsables = base.responsables.clone();
+        double[] retrasos = base.retrasos.clone();
+        Set<Integer> conRetrasos = new HashSet<>(base.empleadosConRetrasos);
+        double diasAgregados = 0;
+
+        // Las operaciones se aplican en el orden en que se hicieron
+        Deque<EscenarioCostos> operaciones = new ArrayDeque<>();
+        for (EscenarioCostos e = this; e.anterior != null; e = e.anterior) {
+            operaciones.push(e);
+        }
+        for (EscenarioCostos operacion : operaciones) {
+            if (operacion.empleado != null) {
+                responsables[operacion.tarea] = operacion.empleado;
+            } else {
+                retrasos[operacion.tarea] += operacion.retraso;
+                diasAgregados += Math.ceil(operacion.retraso);
+                if (responsables[operacion.tarea] != null) {
+                    conRetrasos.add(responsables[operacion.tarea].getLegajo());
+                }
+            }
+        }
+
+        ResultadoBase simulado = calcular(responsables, retrasos, conRetrasos,
+                base.calendario.sumarDiasHabiles(base.fechaRealFin, (int) diasAgregados), base.duraciones,
+                base.diasInicio);
+        return new ResultadoSimulacion(base.actual.costo, simulado.costo, base.actual.margen, simulado.margen,
+                base.actual.fechaRealFin, simulado.fechaRealFin);
+    }
+
+    private static ResultadoBase calcular(IEmpleado[] responsables, double[] retrasos, Set<Integer> conRetrasos,
+            LocalDate fechaRealFin, double[] duraciones, int[] diasInicio) {
+        long costoBase = 0;
+        boolean tieneRetrasos = false;
+        for (int i = 0; i < responsables.length; i++) {
+            if (responsables[i] != null) {
+                costoBase = Math.addExact(costoBase, responsables[i].calcularCostoCentavos(duraciones[i],
+                        conRetrasos.contains(responsables[i].getLegajo()), diasInicio[i]));
+            }
+            if (retrasos[i] > 0) {
+                tieneRetrasos = true;
+            }
+        }
+        long porcentaje = tieneRetrasos ? 125 : 135;
+        long costo = Dinero.aplicarPorcentaje(costoBase, porcentaje, Dinero.REDONDEO);
+        return new ResultadoBase(Dinero.aDouble(costo), porcentaje / 100.0, fechaRealFin);
+    }
+}
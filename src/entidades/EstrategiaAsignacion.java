@@ -0,0 +1,88 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Criterio para elegir qué empleado disponible se asigna a una tarea.
+ * HomeSolution mantiene cada estrategia actualizada: le informa cada cambio
+ * de un empleado (disponibilidad, retrasos), cada asignación y cada
+ * desasignación, para que la estrategia pueda mantener su propio índice y
+ * elegir sin recorrer a todos los empleados.
+ *
+ * Una instancia de estrategia pertenece a un solo HomeSolution.
+ */
+public interface EstrategiaAsignacion {
+
+    /**
+     * Informa que un empleado se registró o cambió (disponibilidad, retrasos, tarifa).
+     *
+     * @param empleado El empleado modificado
+     */
+    void actualizar(IEmpleado empleado);
+
+    /**
+     * Informa que un empleado dejó de estar en el sistema.
+     *
+     * @param empleado El empleado a quitar
+     */
+    void quitar(IEmpleado empleado);
+
+    /**
+     * Elige un empleado disponible que pueda hacer la tarea.
+     *
+     * @param tarea La tarea a asignar
+     * @return El empleado elegido, o null si no hay ninguno disponible que la admita
+     */
+    IEmpleado elegir(Tarea tarea);
+
+    /**
+     * Igual que elegir(tarea), pero descarta a los empleados que no cumplen el
+     * filtro (por ejemplo, los que tienen reservas en las fechas de la tarea).
+     *
+     * La implementación por defecto sirve para cualquier estrategia: si el
+     * elegido no cumple, lo saca temporalmente con quitar() y vuelve a elegir;
+     * al terminar, devuelve los descartados con actualizar(). Cuesta una
+     * elección más por cada descartado; las estrategias que recorren a sus
+     * disponibles en orden pueden redefinirlo para aplicar el filtro al recorrer.
+     *
+     * @param tarea La tarea a asignar
+     * @param filtro Condición adicional que debe cumplir el empleado
+     * @return El empleado elegido, o null si no hay ninguno disponible que la admita y cumpla el filtro
+     */
+    default IEmpleado elegir(Tarea tarea, Predicate<IEmpleado> filtro) {
+        List<IEmpleado> descartados = new ArrayList<>();
+        IEmpleado elegido = elegir(tarea);
+        while (elegido != null && !filtro.test(elegido)) {
+            descartados.add(elegido);
+            quitar(elegido);
+            elegido = elegir(tarea);
+        }
+        for (IEmpleado empleado : descartados) {
+            actualizar(empleado);
+        }
+        return elegido;
+    }
+
+    /**
+     * Informa que el empleado fue asignado a la tarea. Se llama antes de
+     * actualizar(empleado).
+     *
+     * @param empleado El empleado asignado
+     * @param tarea La tarea que recibió
+     */
+    default void registrarAsignacion(IEmpleado empleado, Tarea tarea) {
+    }
+
+    /**
+     * Informa que el empleado dejó de ser responsable de la tarea sin
+     * terminarla (se reasignó a otro o se canceló su reserva). Se llama antes
+     * de actualizar(empleado).
+     *
+     * @param empleado El empleado que era responsable
+     * @param tarea La tarea que dejó
+     */
+    default void registrarDesasignacion(IEmpleado empleado, Tarea tarea) {
+    }
+}
@@ -0,0 +1,28 @@
+package entidades;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Elige al empleado disponible con menos días estimados asignados en total,
+ * para repartir la carga de trabajo de forma pareja. Las tareas que se le
+ * reasignan a otro o cuya reserva se cancela dejan de contarle.
+ */
+public class EstrategiaMenosDias extends EstrategiaOrdenada {
+    private final Map<Integer, Double> diasAsignados = new HashMap<>();
+
+    @Override
+    protected double clave(IEmpleado empleado) {
+        return diasAsignados.getOrDefault(empleado.getLegajo(), 0.0);
+    }
+
+    @Override
+    public void registrarAsignacion(IEmpleado empleado, Tarea tarea) {
+        diasAsignados.merge(empleado.getLegajo(), tarea.getDuracionEstimada(), Double::sum);
+    }
+
+    @Override
+    public void registrarDesasignacion(IEmpleado empleado, Tarea tarea) {
+        diasAsignados.merge(empleado.getLegajo(), -tarea.getDuracionEstimada(), Double::sum);
+    }
+}
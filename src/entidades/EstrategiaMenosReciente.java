@@ -0,0 +1,23 @@
+package entidades;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Elige al empleado disponible al que hace más tiempo que no se le asigna
+ * una tarea. Los que nunca fueron asignados van primero.
+ */
+public class EstrategiaMenosReciente extends EstrategiaOrdenada {
+    private final Map<Integer, Long> ultimaAsignacion = new HashMap<>();
+    private long contador;
+
+    @Override
+    protected double clave(IEmpleado empleado) {
+        return ultimaAsignacion.getOrDefault(empleado.getLegajo(), 0L);
+    }
+
+    @Override
+    public void registrarAsignacion(IEmpleado empleado, Tarea tarea) {
+        ultimaAsignacion.put(empleado.getLegajo(), ++contador);
+    }
+}
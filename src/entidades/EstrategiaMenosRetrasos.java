@@ -0,0 +1,12 @@
+package entidades;
+
+/**
+ * Elige al empleado disponible con menos retrasos registrados.
+ */
+public class EstrategiaMenosRetrasos extends EstrategiaOrdenada {
+
+    @Override
+    protected double clave(IEmpleado empleado) {
+        return empleado.getCantidadRetrasos();
+    }
+}
@@ -0,0 +1,77 @@
+package entidades;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Base de las estrategias que eligen al empleado disponible con menor clave
+ * (y, a igual clave, al de menor legajo).
+ *
+ * Estructuras de datos:
+ * - TreeSet<Entrada> de los empleados disponibles, ordenado por (clave, legajo).
+ *   Cada entrada guarda la clave calculada al momento de agregarla, así el
+ *   orden no se rompe si la clave del empleado cambia mientras está en el conjunto.
+ * - IdentityHashMap<IEmpleado, Entrada>: entrada actual de cada empleado
+ *
+ * Elegir cuesta O(log n) si la tarea no requiere categoría; si la requiere,
+ * se recorren los disponibles en orden hasta encontrar uno que la cubra.
+ */
+public abstract class EstrategiaOrdenada implements EstrategiaAsignacion {
+    private static final Comparator<Entrada> ORDEN = Comparator.comparingDouble((Entrada e) -> e.clave)
+            .thenComparingInt(e -> e.empleado.getLegajo());
+
+    private final TreeSet<Entrada> disponibles = new TreeSet<>(ORDEN);
+    private final Map<IEmpleado, Entrada> entradas = new IdentityHashMap<>();
+
+    private static class Entrada {
+        private final IEmpleado empleado;
+        private final double clave;
+
+        Entrada(IEmpleado empleado, double clave) {
+            this.empleado = empleado;
+            this.clave = clave;
+        }
+    }
+
+    /**
+     * @param empleado Un empleado disponible
+     * @return La clave por la que se ordena; se elige al de menor clave
+     */
+    protected abstract double clave(IEmpleado empleado);
+
+    @Override
+    public void actualizar(IEmpleado empleado) {
+        quitar(empleado);
+        if (empleado.estaDisponible()) {
+            Entrada entrada = new Entrada(empleado, clave(empleado));
+            disponibles.add(entrada);
+            entradas.put(empleado, entrada);
+        }
+    }
+
+    @Override
+    public void quitar(IEmpleado empleado) {
+        Entrada anterior = entradas.remove(empleado);
+        if (anterior != null) {
+            disponibles.remove(anterior);
+        }
+    }
+
+    @Override
+    public IEmpleado elegir(Tarea tarea) {
+        return elegir(tarea, empleado -> true);
+    }
+
+    @Override
+    public IEmpleado elegir(Tarea tarea, Predicate<IEmpleado> filtro) {
+        for (Entrada entrada : disponibles) {
+            if (tarea.admiteEmpleado(entrada.empleado) && filtro.test(entrada.empleado)) {
+                return entrada.empleado;
+            }
+        }
+        return null;
+    }
+}
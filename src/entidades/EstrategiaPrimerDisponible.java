@@ -0,0 +1,12 @@
+package entidades;
+
+/**
+ * Elige al empleado disponible de menor legajo.
+ */
+public class EstrategiaPrimerDisponible extends EstrategiaOrdenada {
+
+    @Override
+    protected double clave(IEmpleado empleado) {
+        return 0;
+    }
+}
@@ -0,0 +1,62 @@
+package entidades;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Recorre a los empleados por legajo en forma circular: elige al primer
+ * empleado disponible con legajo mayor al último asignado y, al llegar al
+ * final, vuelve a empezar.
+ *
+ * Estructuras de datos:
+ * - TreeMap<Integer, IEmpleado> de los disponibles por legajo: el siguiente
+ *   al último asignado es higherEntry, en O(log n)
+ */
+public class EstrategiaRoundRobin implements EstrategiaAsignacion {
+    private final TreeMap<Integer, IEmpleado> disponibles = new TreeMap<>();
+    private final Map<IEmpleado, Boolean> presentes = new IdentityHashMap<>();
+    private int ultimoLegajo;
+
+    @Override
+    public void actualizar(IEmpleado empleado) {
+        quitar(empleado);
+        if (empleado.estaDisponible()) {
+            disponibles.put(empleado.getLegajo(), empleado);
+            presentes.put(empleado, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public void quitar(IEmpleado empleado) {
+        if (presentes.remove(empleado) != null) {
+            disponibles.remove(empleado.getLegajo(), empleado);
+        }
+    }
+
+    @Override
+    public IEmpleado elegir(Tarea tarea) {
+        return elegir(tarea, empleado -> true);
+    }
+
+    @Override
+    public IEmpleado elegir(Tarea tarea, Predicate<IEmpleado> filtro) {
+        for (IEmpleado empleado : disponibles.tailMap(ultimoLegajo, false).values()) {
+            if (tarea.admiteEmpleado(empleado) && filtro.test(empleado)) {
+                return empleado;
+            }
+        }
+        for (IEmpleado empleado : disponibles.headMap(ultimoLegajo, true).values()) {
+            if (tarea.admiteEmpleado(empleado) && filtro.test(empleado)) {
+                return empleado;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void registrarAsignacion(IEmpleado empleado, Tarea tarea) {
+        ultimoLegajo = empleado.getLegajo();
+    }
+}
@@ -0,0 +1,67 @@
+package entidades;
+
+/**
+ * Evento inmutable que describe una modificación del sistema.
+ *
+ * Características:
+ * - Número de secuencia creciente y sin huecos, asignado al publicarse
+ * - numeroProyecto y legajo valen 0 cuando el evento no los involucra
+ * - titulo es el título de la tarea afectada, o null
+ * - detalle contiene información adicional (nuevo estado, días de retraso, etc.), o null
+ */
+public class Evento {
+    private final long secuencia;
+    private final TipoEvento tipo;
+    private final int numeroProyecto;
+    private final int legajo;
+    private final String titulo;
+    private final String detalle;
+
+    public Evento(long secuencia, TipoEvento tipo, int numeroProyecto, int legajo, String titulo, String detalle) {
+        if (tipo == null) {
+            throw new IllegalArgumentException("El tipo de evento no puede ser nulo");
+        }
+        this.secuencia = secuencia;
+        this.tipo = tipo;
+        this.numeroProyecto = numeroProyecto;
+        this.legajo = legajo;
+        this.titulo = titulo;
+        this.detalle = detalle;
+    }
+
+    public long getSecuencia() {
+        return secuencia;
+    }
+
+    public TipoEvento getTipo() {
+        return tipo;
+    }
+
+    public int getNumeroProyecto() {
+        return numeroProyecto;
+    }
+
+    public int getLegajo() {
+        return legajo;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public String getDetalle() {
+        return detalle;
+    }
+
+    @Override
+    public String toString() {
+        return "Evento{" +
+                "secuencia=" + secuencia +
+                ", tipo=" + tipo +
+                ", proyecto=" + numeroProyecto +
+                ", legajo=" + legajo +
+                ", titulo='" + titulo + '\'' +
+                ", detalle='" + detalle + '\'' +
+                '}';
+    }
+}
@@ -1,16 +1,53 @@
 package entidades;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 
+/**
+ * Fecha guardada como días desde 1970-01-01 (LocalDate.toEpochDay()), así
+ * las cuentas y comparaciones son con int y no crean objetos. Se convierte a
+ * LocalDate solo al crearla desde año, mes y día y en getFecha(), aFormato()
+ * y toString().
+ */
 public class Fecha {
-    private LocalDate fecha;
+    private final int dia;
 
     public Fecha(LocalDate fecha) {
         if (fecha == null) {
             throw new IllegalArgumentException("La fecha no puede ser nula");
         }
-        this.fecha = fecha;
+        this.dia = aDia(fecha);
+    }
+
+    private Fecha(int dia) {
+        this.dia = dia;
+    }
+
+    /**
+     * @return Días desde 1970-01-01 hasta la fecha
+     * @throws ArithmeticException si la fecha está fuera del rango de un int de días
+     */
+    static int aDia(LocalDate fecha) {
+        return Math.toIntExact(fecha.toEpochDay());
+    }
+
+    /**
+     * Calcula año y mes de un día sin pasar por LocalDate (algoritmo de
+     * calendario civil de H. Hinnant).
+     *
+     * @param dia Días desde 1970-01-01
+     * @return El año y mes en formato AAAAMM
+     */
+    public static int aAnioMes(int dia) {
+        long z = dia + 719468L;
+        long era = Math.floorDiv(z, 146097);
+        long diaDeEra = z - era * 146097;
+        long anioDeEra = (diaDeEra - diaDeEra / 1460 + diaDeEra / 36524 - diaDeEra / 146096) / 365;
+        long diaDelAnio = diaDeEra - (365 * anioDeEra + anioDeEra / 4 - anioDeEra / 100);
+        // Los meses se cuentan desde marzo, así el 29 de febrero queda al final
+        long mesDesdeMarzo = (5 * diaDelAnio + 2) / 153;
+        long mes = mesDesdeMarzo < 10 ? mesDesdeMarzo + 3 : mesDesdeMarzo - 9;
+        long anio = anioDeEra + era * 400 + (mes <= 2 ? 1 : 0);
+        return Math.toIntExact(anio * 100 + mes);
     }
 
     public static Fecha crearFecha(int anio, int mes, int dia) {
@@ -24,36 +61,52 @@ public class Fecha {
         return crearFecha(anio, mes, dia);
     }
 
+    /**
+     * @param dia Días desde 1970-01-01
+     * @return La fecha correspondiente
+     */
+    public static Fecha desdeDia(int dia) {
+        return new Fecha(dia);
+    }
+
     public Fecha agregarDias(int dias) {
-        return new Fecha(this.fecha.plusDays(dias));
+        return new Fecha(Math.addExact(this.dia, dias));
     }
 
     public boolean esAnterior(Fecha otra) {
-        return this.fecha.isBefore(otra.fecha);
+        return this.dia < otra.dia;
     }
 
     public boolean esPosterior(Fecha otra) {
-        return this.fecha.isAfter(otra.fecha);
+        return this.dia > otra.dia;
     }
 
     public boolean esIgual(Fecha otra) {
-        return this.fecha.isEqual(otra.fecha);
+        return this.dia == otra.dia;
     }
 
     public int diasEntre(Fecha otra) {
-        return (int) ChronoUnit.DAYS.between(this.fecha, otra.fecha);
+        return otra.dia - this.dia;
     }
 
     public int aFormato() {
+        LocalDate fecha = getFecha();
         return fecha.getYear() * 10000 + fecha.getMonthValue() * 100 + fecha.getDayOfMonth();
     }
 
+    /**
+     * @return Días desde 1970-01-01
+     */
+    public int getDia() {
+        return dia;
+    }
+
     public LocalDate getFecha() {
-        return fecha;
+        return LocalDate.ofEpochDay(dia);
     }
 
     @Override
     public String toString() {
-        return fecha.toString();
+        return getFecha().toString();
     }
 }
@@ -0,0 +1,196 @@
+package entidades;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Estado de un proyecto en un momento dado, reconstruido a partir de su
+ * línea de tiempo. Se usa para consultar cómo estaba un proyecto en el pasado,
+ * incluido cuánto costaba.
+ *
+ * Por cada tarea guarda: título, legajo del responsable (0 si no tenía),
+ * días de retraso acumulados y si estaba terminada.
+ *
+ * Los datos de las tareas van en arreglos paralelos de tipos primitivos, así
+ * copiar una foto (cada INTERVALO_FOTOS registros de la línea de tiempo) son
+ * unas pocas copias de arreglos. Los títulos solo se agregan, nunca cambian,
+ * por eso las copias pueden compartir el arreglo: cada foto usa solo las
+ * primeras 'cantidad' posiciones.
+ */
+public class FotoProyecto {
+    private final int numero;
+    private LocalDateTime momento;
+    private String estado;
+    private int diaEstimadoFin;
+    private int diaRealFin;
+    private long costoCentavos;
+    private int cantidad;
+    private String[] titulos;
+    private int[] legajos;
+    private double[] retrasos;
+    private boolean[] terminadas;
+
+    FotoProyecto(int numero) {
+        this.numero = numero;
+        this.diaRealFin = Proyecto.SIN_FECHA;
+        this.titulos = new String[4];
+        this.legajos = new int[4];
+        this.retrasos = new double[4];
+        this.terminadas = new boolean[4];
+    }
+
+    FotoProyecto copiar() {
+        FotoProyecto copia = new FotoProyecto(numero);
+        copia.momento = momento;
+        copia.estado = estado;
+        copia.diaEstimadoFin = diaEstimadoFin;
+        copia.diaRealFin = diaRealFin;
+        copia.costoCentavos = costoCentavos;
+        copia.cantidad = cantidad;
+        copia.titulos = titulos;
+        copia.legajos = Arrays.copyOf(legajos, cantidad);
+        copia.retrasos = Arrays.copyOf(retrasos, cantidad);
+        copia.terminadas = Arrays.copyOf(terminadas, cantidad);
+        return copia;
+    }
+
+    /**
+     * Aplica un registro de la línea de tiempo sobre esta foto.
+     */
+    void aplicar(RegistroHistorial registro) {
+        switch (registro.getTipo()) {
+            case TAREA_AGREGADA:
+                agregarTarea(registro.getTitulo());
+                break;
+            case TAREA_ASIGNADA:
+            case TAREA_REASIGNADA:
+                legajos[indiceDe(registro.getTitulo())] = registro.getLegajo();
+                break;
+            case RESERVA_CANCELADA:
+                legajos[indiceDe(registro.getTitulo())] = 0;
+                break;
+            case RETRASO_REGISTRADO:
+                retrasos[indiceDe(registro.getTitulo())] += registro.getValor();
+                break;
+            case TAREA_FINALIZADA:
+                terminadas[indiceDe(registro.getTitulo())] = true;
+                break;
+            default:
+                break;
+        }
+        this.momento = registro.getMomento();
+        this.estado = registro.getEstado();
+        this.diaEstimadoFin = registro.getDiaEstimadoFin();
+        this.diaRealFin = registro.getDiaRealFin();
+        this.costoCentavos = registro.getCostoCentavos();
+    }
+
+    private void agregarTarea(String titulo) {
+        if (cantidad == legajos.length) {
+            int largo = Math.max(4, cantidad * 2);
+            legajos = Arrays.copyOf(legajos, largo);
+            retrasos = Arrays.copyOf(retrasos, largo);
+            terminadas = Arrays.copyOf(terminadas, largo);
+        }
+        // El arreglo de títulos puede estar compartido con fotos anteriores:
+        // se copia si está lleno o si otra foto ya escribió en esa posición
+        if (cantidad == titulos.length || titulos[cantidad] != null) {
+            titulos = Arrays.copyOf(titulos, Math.max(4, cantidad * 2));
+            Arrays.fill(titulos, cantidad, titulos.length, null);
+        }
+        titulos[cantidad] = titulo;
+        cantidad++;
+    }
+
+    public int getNumero() {
+        return numero;
+    }
+
+    /**
+     * @return El momento del último cambio incluido en la foto
+     */
+    public LocalDateTime getMomento() {
+        return momento;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public LocalDate getFechaEstimadaFin() {
+        return LocalDate.ofEpochDay(diaEstimadoFin);
+    }
+
+    public LocalDate getFechaRealFin() {
+        return diaRealFin == Proyecto.SIN_FECHA ? null : LocalDate.ofEpochDay(diaRealFin);
+    }
+
+    /**
+     * @return El costo del proyecto en ese momento
+     */
+    public double getCosto() {
+        return Dinero.aDouble(costoCentavos);
+    }
+
+    /**
+     * @return El costo del proyecto en ese momento, en centavos
+     */
+    public long getCostoCentavos() {
+        return costoCentavos;
+    }
+
+    public List<String> getTitulosTareas() {
+        return new ArrayList<>(Arrays.asList(titulos).subList(0, cantidad));
+    }
+
+    /**
+     * @return El legajo del responsable de la tarea en ese momento, o 0 si no tenía
+     * @throws IllegalArgumentException si la tarea no existía en ese momento
+     */
+    public int getLegajoResponsable(String titulo) {
+        return legajos[indiceDe(titulo)];
+    }
+
+    public double getDiasRetraso(String titulo) {
+        return retrasos[indiceDe(titulo)];
+    }
+
+    public boolean estabaTerminada(String titulo) {
+        return terminadas[indiceDe(titulo)];
+    }
+
+    private int indiceDe(String titulo) {
+        for (int i = 0; i < cantidad; i++) {
+            if (titulos[i].equals(titulo)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Tarea no encontrada");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Proyecto #").append(numero).append(" al ").append(momento).append("\n");
+        sb.append("Estado: ").append(estado).append("\n");
+        sb.append("Fecha estimada fin: ").append(getFechaEstimadaFin()).append("\n");
+        sb.append("Fecha real fin: ").append(getFechaRealFin()).append("\n");
+        sb.append("Costo: ").append(getCosto()).append("\n");
+        sb.append("Tareas:\n");
+        for (int i = 0; i < cantidad; i++) {
+            sb.append("- ").append(titulos[i]);
+            sb.append(legajos[i] != 0 ? " (legajo " + legajos[i] + ")" : " (sin asignar)");
+            if (retrasos[i] > 0) {
+                sb.append(", retraso ").append(retrasos[i]).append(" días");
+            }
+            if (terminadas[i]) {
+                sb.append(", terminada");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+}
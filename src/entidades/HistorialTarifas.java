@@ -0,0 +1,90 @@
+package entidades;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Historial de la tarifa de un empleado (valor por hora o por día, en
+ * centavos) con fechas de vigencia. Cada tarifa rige desde su fecha hasta el
+ * día anterior a la siguiente; la tarifa inicial rige desde siempre.
+ *
+ * Estructura de datos:
+ * - TreeMap<Long, Long> de (primer día de vigencia, tarifa), con los días
+ *   como LocalDate.toEpochDay(). La tarifa de una fecha es floorEntry, en O(log n).
+ */
+public class HistorialTarifas {
+    private final TreeMap<Long, Long> tarifas;
+
+    /**
+     * @param tarifaInicial Tarifa en centavos vigente desde siempre
+     * @throws IllegalArgumentException si la tarifa no es positiva
+     */
+    public HistorialTarifas(long tarifaInicial) {
+        if (tarifaInicial <= 0) {
+            throw new IllegalArgumentException("La tarifa debe ser mayor que 0");
+        }
+        this.tarifas = new TreeMap<>();
+        tarifas.put(Long.MIN_VALUE, tarifaInicial);
+    }
+
+    /**
+     * Registra una tarifa nueva a partir de una fecha. Si ya había una tarifa
+     * desde esa misma fecha, la reemplaza.
+     *
+     * @param desde Primer día de vigencia
+     * @param tarifa Tarifa en centavos
+     * @throws IllegalArgumentException si la fecha es nula o la tarifa no es positiva
+     */
+    public void agregar(LocalDate desde, long tarifa) {
+        if (desde == null) {
+            throw new IllegalArgumentException("La fecha no puede ser nula");
+        }
+        if (tarifa <= 0) {
+            throw new IllegalArgumentException("La tarifa debe ser mayor que 0");
+        }
+        tarifas.put(desde.toEpochDay(), tarifa);
+    }
+
+    /**
+     * @param fecha La fecha a consultar
+     * @return La tarifa en centavos vigente en esa fecha
+     */
+    public long vigente(LocalDate fecha) {
+        return vigente(fecha.toEpochDay());
+    }
+
+    /**
+     * @param dia La fecha a consultar, como LocalDate.toEpochDay()
+     * @return La tarifa en centavos vigente ese día
+     */
+    public long vigente(long dia) {
+        return tarifas.floorEntry(dia).getValue();
+    }
+
+    /**
+     * @return La última tarifa registrada, en centavos
+     */
+    public long ultima() {
+        return tarifas.lastEntry().getValue();
+    }
+
+    /**
+     * @return Cantidad de tarifas registradas, incluida la inicial
+     */
+    public int size() {
+        return tarifas.size();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Long, Long> entrada : tarifas.entrySet()) {
+            String desde = entrada.getKey() == Long.MIN_VALUE ? "inicial"
+                    : LocalDate.ofEpochDay(entrada.getKey()).toString();
+            sb.append(desde)
+                    .append(": $").append(String.format("%.2f", Dinero.aDouble(entrada.getValue()))).append("\n");
+        }
+        return sb.toString();
+    }
+}
@@ -1,7 +1,11 @@
 package entidades;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Clase principal que implementa la interfaz IHomeSolution.
@@ -14,12 +18,156 @@ import java.util.*;
  * - Control de estados de proyectos
  */
 public class HomeSolution implements IHomeSolution {
+    public static final String VISTA_COSTO_POR_CLIENTE = "costoPorCliente";
+    public static final String VISTA_COSTO_POR_MES = "costoPorMes";
+    public static final String VISTA_COSTO_POR_CATEGORIA = "costoPorCategoria";
+    public static final String VISTA_RETRASOS_POR_CLIENTE = "retrasosPorCliente";
+
     private Map<Integer, IEmpleado> empleados;
     private Map<Integer, Proyecto> proyectos;
+    // Proyectos finalizados: ya no se modifican, se guardan en forma compacta
+    private Map<Integer, ProyectoArchivado> archivados;
+    // Números de todos los proyectos, en curso o archivados, para recorrerlos
+    // en el reporte en el mismo orden que antes de separarlos en dos mapas
+    private Set<Integer> numerosProyectos;
+    // En centavos (ver Dinero)
+    private long costoArchivado;
+    // Suma en centavos de los costos de los proyectos no finalizados, y el
+    // costo con que cada uno está incluido en la suma
+    private long costoActivo;
+    private Map<Integer, Long> costosSumados;
+    // Versionado de cambios: cada modificación recibe un número de versión creciente
+    private long versionActual;
+    private Map<Integer, Long> versionesEmpleados;
+    private Set<Integer> proyectosModificados;
+    private Set<Integer> empleadosModificados;
+    private long versionUltimoCorte;
+    private BufferEventos eventos;
+    private static final int CAPACIDAD_EVENTOS = 4096;
+    private Clock reloj;
+    private IndiceProyectos indiceProyectos;
+    private IndiceBusqueda indiceBusqueda;
+    private IndiceIntervalos indiceFechas;
+    private Map<String, VistaMaterializada> vistas;
+    private RankingEmpleados ranking;
+    // Textos de consultarProyecto; los bloques del reporte se guardan en cada proyecto
+    private CacheTextos cacheProyectos;
+    private static final int CAPACIDAD_CACHE_TEXTOS = 1024;
+    private Map<Integer, CalendarioEmpleado> calendarios;
+    // Reserva de cada tarea con responsable, por número de proyecto y título (ver asignar)
+    private Map<Integer, Map<String, Reserva>> reservasPorTarea;
+    // Tareas que no pudieron asignarse por falta de empleados disponibles
+    private ColaEspera espera;
+    // Tareas en espera que se prueban y devuelven a la cola, como máximo, cada vez que se libera un empleado
+    private static final int MAXIMO_SALTEADAS_POR_LIBERACION = 32;
+    private IndiceCostoEmpleados indiceCostos;
+    private IndiceCategorias indiceCategorias;
+    private EstrategiaMenosRetrasos menosRetrasos;
+    // Estrategia usada por asignarResponsableEnTarea (por defecto, primer disponible)
+    private EstrategiaAsignacion estrategia;
+    // Todas las estrategias que hay que mantener actualizadas: los índices fijos
+    // y, en la última posición, la estrategia configurada
+    private List<EstrategiaAsignacion> estrategias;
+    // Calendario laboral de los proyectos que se registren (por defecto, todos los días son hábiles)
+    private CalendarioLaboral calendarioLaboral;
+    // Proyectos en curso en los que trabajó cada empleado (por legajo), para
+    // recalcular solo esos cuando cambia la tarifa o el bonus del empleado
+    private Map<Integer, Set<Integer>> proyectosPorEmpleado;
 
     public HomeSolution() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Crea el sistema usando el reloj indicado para fechar la línea de tiempo
+     * de los proyectos.
+     *
+     * @param reloj El reloj a utilizar
+     * @throws IllegalArgumentException si el reloj es nulo
+     */
+    public HomeSolution(Clock reloj) {
+        if (reloj == null) {
+            throw new IllegalArgumentException("El reloj no puede ser nulo");
+        }
+        this.reloj = reloj;
         this.empleados = new HashMap<>();
         this.proyectos = new HashMap<>();
+        this.archivados = new HashMap<>();
+        this.numerosProyectos = new HashSet<>();
+        this.costoArchivado = 0;
+        this.costoActivo = 0;
+        this.costosSumados = new HashMap<>();
+        this.versionActual = 0;
+        this.versionesEmpleados = new HashMap<>();
+        this.proyectosModificados = new LinkedHashSet<>();
+        this.empleadosModificados = new LinkedHashSet<>();
+        this.versionUltimoCorte = 0;
+        this.eventos = new BufferEventos(CAPACIDAD_EVENTOS);
+        this.indiceProyectos = new IndiceProyectos();
+        this.indiceBusqueda = new IndiceBusqueda();
+        this.indiceFechas = new IndiceIntervalos();
+        this.vistas = new LinkedHashMap<>();
+        this.ranking = new RankingEmpleados();
+        this.cacheProyectos = new CacheTextos(CAPACIDAD_CACHE_TEXTOS);
+        this.calendarios = new HashMap<>();
+        this.reservasPorTarea = new HashMap<>();
+        this.espera = new ColaEspera();
+        this.indiceCostos = new IndiceCostoEmpleados();
+        this.indiceCategorias = new IndiceCategorias();
+        this.menosRetrasos = new EstrategiaMenosRetrasos();
+        this.estrategia = new EstrategiaPrimerDisponible();
+        this.proyectosPorEmpleado = new HashMap<>();
+        this.calendarioLaboral = CalendarioLaboral.TODOS_LOS_DIAS;
+        this.estrategias = new ArrayList<>(Arrays.asList(indiceCostos, indiceCategorias, menosRetrasos, estrategia));
+        declararVistas();
+    }
+
+    /**
+     * Declara las vistas agregadas que el sistema mantiene actualizadas.
+     * Cada vista indica cuánto aporta un proyecto a cada grupo.
+     */
+    private void declararVistas() {
+        declararVista(VISTA_COSTO_POR_CLIENTE, Dinero.ESCALA,
+                p -> Collections.singletonMap(p.getCliente(), p.getCostoCentavos()));
+        declararVista(VISTA_COSTO_POR_MES, Dinero.ESCALA,
+                p -> Collections.singletonMap(claveMes(p.getDiaInicio()), p.getCostoCentavos()));
+        declararVista(VISTA_COSTO_POR_CATEGORIA, Dinero.ESCALA, p -> {
+            Map<String, Long> aporte = new HashMap<>();
+            long margen = p.getMargenPorcentaje();
+            for (Tarea tarea : p.getTareas()) {
+                IEmpleado empleado = tarea.getEmpleadoAsignado();
+                if (empleado != null) {
+                    String categoria = empleado instanceof EmpleadoPlanta
+                            ? ((EmpleadoPlanta) empleado).getCategoria().getNombre()
+                            : "CONTRATADO";
+                    long costo = empleado.calcularCostoCentavos(tarea.getDuracionEstimada(), empleado.tuvoRetrasos(),
+                            p.getDiaInicioTarea(tarea));
+                    aporte.merge(categoria, Dinero.aplicarPorcentaje(costo, margen, Dinero.REDONDEO), Math::addExact);
+                }
+            }
+            return aporte;
+        });
+        declararVista(VISTA_RETRASOS_POR_CLIENTE, Dinero.MILESIMOS, p -> {
+            long dias = 0;
+            for (Tarea tarea : p.getTareas()) {
+                dias += Dinero.milesimos(tarea.getDiasRetraso());
+            }
+            return Collections.singletonMap(p.getCliente(), dias);
+        });
+    }
+
+    /**
+     * @param dia Días desde 1970-01-01
+     * @return El mes del día en formato YYYY-MM
+     */
+    private static String claveMes(int dia) {
+        int anioMes = Fecha.aAnioMes(dia);
+        int mes = anioMes % 100;
+        return anioMes / 100 + (mes < 10 ? "-0" : "-") + mes;
+    }
+
+    private void declararVista(String nombre, long escala, Function<Proyecto, Map<String, Long>> aporte) {
+        vistas.put(nombre, new VistaMaterializada(nombre, escala, aporte));
     }
 
     /**
@@ -32,20 +180,31 @@ public class HomeSolution implements IHomeSolution {
     @Override
     public void registrarEmpleado(String nombre, double valor) throws IllegalArgumentException {
         IEmpleado empleado = new EmpleadoContratado(nombre, valor);
-        empleados.put(empleado.getLegajo(), empleado);
+        IEmpleado anterior = empleados.put(empleado.getLegajo(), empleado);
+        if (anterior != null) {
+            for (EstrategiaAsignacion e : estrategias) {
+                e.quitar(anterior);
+            }
+        }
+        registrarCambio(empleado);
+        eventos.publicar(TipoEvento.EMPLEADO_REGISTRADO, 0, empleado.getLegajo(), null, empleado.getNombre());
+        atenderEspera(empleado);
     }
 
     @Override
     public void registrarEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException {
-        IEmpleado empleado;
-        if ("EXPERTO".equalsIgnoreCase(categoria)) {
-            empleado = new EmpleadoPlanta(nombre, valor, "EXPERTO");
-        } else if ("TÉCNICO".equalsIgnoreCase(categoria)) {
-            empleado = new EmpleadoPlanta(nombre, valor, "TÉCNICO");
-        } else {
-            empleado = new EmpleadoPlanta(nombre, valor, "INICIAL");
+        // Una categoría desconocida se registra como INICIAL
+        Categoria nivel = Categoria.desdeNombre(categoria);
+        IEmpleado empleado = new EmpleadoPlanta(nombre, valor, nivel != null ? nivel : Categoria.INICIAL);
+        IEmpleado anterior = empleados.put(empleado.getLegajo(), empleado);
+        if (anterior != null) {
+            for (EstrategiaAsignacion e : estrategias) {
+                e.quitar(anterior);
+            }
         }
-        empleados.put(empleado.getLegajo(), empleado);
+        registrarCambio(empleado);
+        eventos.publicar(TipoEvento.EMPLEADO_REGISTRADO, 0, empleado.getLegajo(), null, empleado.getNombre());
+        atenderEspera(empleado);
     }
 
     @Override
@@ -70,7 +229,7 @@ public class HomeSolution implements IHomeSolution {
         LocalDate inicio = LocalDate.parse(fechaInicio);
         LocalDate fin = LocalDate.parse(fechaFin);
 
-        Proyecto proyecto = new Proyecto(domicilio, cliente[0], inicio, fin);
+        Proyecto proyecto = new Proyecto(domicilio, cliente[0], inicio, fin, calendarioLaboral);
 
         for (int i = 0; i < titulos.length; i++) {
             if (titulos[i] != null && !titulos[i].trim().isEmpty()) {
@@ -84,17 +243,27 @@ public class HomeSolution implements IHomeSolution {
         proyecto.actualizarCostoTotal();
         proyecto.actualizarEstado();
         proyectos.put(proyecto.getNumero(), proyecto);
+        numerosProyectos.add(proyecto.getNumero());
+        registrarCambio(proyecto);
+        eventos.publicar(TipoEvento.PROYECTO_REGISTRADO, proyecto.getNumero(), 0, null, proyecto.getEstado());
+        registrarEnLineaDeTiempo(proyecto, TipoEvento.PROYECTO_REGISTRADO, null, 0, 0);
+        indiceBusqueda.agregarProyecto(proyecto.getNumero(), proyecto.getCliente(), proyecto.getDomicilio());
+        for (Tarea tarea : proyecto.getTareas()) {
+            registrarEnLineaDeTiempo(proyecto, TipoEvento.TAREA_AGREGADA, tarea.getTitulo(), 0,
+                    tarea.getDuracionEstimada());
+            indiceBusqueda.agregarTarea(proyecto.getNumero(), tarea.getTitulo(), tarea.getDescripcion());
+        }
     }
 
     @Override
     public void asignarResponsableEnTarea(Integer numero, String titulo) throws Exception {
+        if (archivados.containsKey(numero)) {
+            throw new Exception("No se pueden asignar tareas en un proyecto finalizado");
+        }
         Proyecto proyecto = proyectos.get(numero);
         if (proyecto == null) {
             throw new IllegalArgumentException("Proyecto no encontrado");
         }
-        if (proyecto.getEstado().equals(Estado.finalizado)) {
-            throw new Exception("No se pueden asignar tareas en un proyecto finalizado");
-        }
 
         // Buscar la tarea
         Tarea tareaEncontrada = null;
@@ -113,32 +282,222 @@ public class HomeSolution implements IHomeSolution {
             throw new Exception("La tarea ya tiene un empleado asignado");
         }
 
-        // Buscar primer empleado disponible
-        IEmpleado empleadoDisponible = empleados.values().stream()
-                .filter(IEmpleado::estaDisponible)
-                .findFirst()
-                .orElse(null);
+        // Buscar un empleado disponible según la estrategia configurada
+        IEmpleado empleadoDisponible = estrategia.elegir(tareaEncontrada, libreParaTarea(proyecto, tareaEncontrada));
 
         if (empleadoDisponible == null) {
             proyecto.setEstado(Estado.pendiente);
+            registrarCambio(proyecto);
+            espera.encolar(numero, titulo, proyecto.getDiaInicio(), tareaEncontrada.getCategoriaRequerida());
             throw new Exception("No hay empleados disponibles");
         }
 
-        tareaEncontrada.setEmpleadoAsignado(empleadoDisponible);
-        proyecto.registrarEmpleadoEnTarea(tareaEncontrada, empleadoDisponible);
-        proyecto.actualizarEstado();
+        asignar(proyecto, tareaEncontrada, empleadoDisponible);
     }
 
-    @Override
-    public void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) throws Exception {
+    /**
+     * Asigna la tarea al empleado disponible que resulta más económico para
+     * su duración estimada, con las tarifas vigentes al inicio planificado de
+     * la tarea. Contratados y empleados de planta cobran distinto
+     * los medios días y el bonus por no tener retrasos, por lo que el más
+     * económico depende de la tarea.
+     *
+     * Si no hay empleados disponibles, el proyecto queda pendiente y la tarea
+     * queda en espera hasta que se libere alguno.
+     *
+     * @param numero Número del proyecto
+     * @param titulo Título de la tarea
+     * @throws IllegalArgumentException si el proyecto o la tarea no existen
+     * @throws Exception si el proyecto está finalizado, la tarea ya tiene
+     *         empleado o no hay empleados disponibles
+     */
+    public void asignarResponsableMasEconomico(Integer numero, String titulo) throws Exception {
+        if (archivados.containsKey(numero)) {
+            throw new Exception("No se pueden asignar tareas en un proyecto finalizado");
+        }
         Proyecto proyecto = proyectos.get(numero);
         if (proyecto == null) {
             throw new IllegalArgumentException("Proyecto no encontrado");
         }
+        Tarea tarea = buscarTarea(proyecto, titulo);
+        if (tarea.tieneEmpleadoAsignado()) {
+            throw new Exception("La tarea ya tiene un empleado asignado");
+        }
+
+        IEmpleado masEconomico = indiceCostos.elegir(tarea, proyecto.getDiaInicioTarea(tarea),
+                libreParaTarea(proyecto, tarea));
+        if (masEconomico == null) {
+            proyecto.setEstado(Estado.pendiente);
+            registrarCambio(proyecto);
+            espera.encolar(numero, titulo, proyecto.getDiaInicio(), tarea.getCategoriaRequerida());
+            throw new Exception("No hay empleados disponibles");
+        }
+
+        asignar(proyecto, tarea, masEconomico);
+    }
+
+    /**
+     * Cambia la estrategia con la que asignarResponsableEnTarea elige al
+     * empleado (por defecto, EstrategiaPrimerDisponible). La estrategia se
+     * inicializa con los empleados actuales y se mantiene actualizada desde
+     * ese momento.
+     *
+     * @param nueva La estrategia a usar; no debe estar en uso en otro HomeSolution
+     * @throws IllegalArgumentException si la estrategia es nula
+     */
+    public void configurarEstrategiaAsignacion(EstrategiaAsignacion nueva) {
+        if (nueva == null) {
+            throw new IllegalArgumentException("La estrategia no puede ser nula");
+        }
+        for (IEmpleado empleado : empleados.values()) {
+            nueva.actualizar(empleado);
+        }
+        // La anterior deja de mantenerse; los índices fijos siguen en su lugar
+        estrategias.set(estrategias.size() - 1, nueva);
+        estrategia = nueva;
+    }
+
+    /**
+     * Cambia el calendario laboral con el que se cuentan los días de tareas y
+     * retrasos (por defecto, CalendarioLaboral.TODOS_LOS_DIAS). Se aplica a
+     * los proyectos que se registren desde ese momento; los proyectos ya
+     * registrados conservan su calendario, porque sus fechas ya se calcularon con él.
+     *
+     * @param calendario El calendario a usar
+     * @throws IllegalArgumentException si el calendario es nulo
+     */
+    public void configurarCalendarioLaboral(CalendarioLaboral calendario) {
+        if (calendario == null) {
+            throw new IllegalArgumentException("El calendario no puede ser nulo");
+        }
+        this.calendarioLaboral = calendario;
+    }
+
+    private void notificarAsignacion(IEmpleado empleado, Tarea tarea) {
+        for (EstrategiaAsignacion e : estrategias) {
+            e.registrarAsignacion(empleado, tarea);
+        }
+    }
 
-        if (proyecto.getEstado().equals(Estado.finalizado)) {
+    private void notificarDesasignacion(IEmpleado empleado, Tarea tarea) {
+        for (EstrategiaAsignacion e : estrategias) {
+            e.registrarDesasignacion(empleado, tarea);
+        }
+    }
+
+    /**
+     * Indica la categoría mínima de empleado de planta que requiere una tarea.
+     * No cambia el responsable actual de la tarea.
+     *
+     * @param numero Número del proyecto
+     * @param titulo Título de la tarea
+     * @param categoria La categoría requerida, o null para no exigir ninguna
+     * @throws IllegalArgumentException si el proyecto o la tarea no existen o el proyecto está finalizado
+     */
+    public void establecerCategoriaRequerida(Integer numero, String titulo, Categoria categoria) {
+        if (archivados.containsKey(numero)) {
+            throw new IllegalArgumentException("No se pueden modificar tareas en un proyecto finalizado");
+        }
+        Proyecto proyecto = proyectos.get(numero);
+        if (proyecto == null) {
+            throw new IllegalArgumentException("Proyecto no encontrado");
+        }
+        buscarTarea(proyecto, titulo).setCategoriaRequerida(categoria);
+        espera.cambiarCategoria(numero, titulo, categoria);
+        registrarCambio(proyecto);
+        eventos.publicar(TipoEvento.CATEGORIA_REQUERIDA_ESTABLECIDA, numero, 0, titulo,
+                categoria != null ? categoria.name() : null);
+    }
+
+    /**
+     * Asigna la tarea a un empleado disponible que cumpla su categoría requerida.
+     * Si la tarea no requiere categoría, se prefiere a los contratados y después
+     * a los empleados de planta de menor categoría.
+     *
+     * Si no hay empleados disponibles que cumplan, el proyecto queda pendiente
+     * y la tarea queda en espera hasta que se libere alguno.
+     *
+     * @param numero Número del proyecto
+     * @param titulo Título de la tarea
+     * @param permitirCategoriaSuperior Si se aceptan empleados de una categoría superior a la requerida
+     * @throws IllegalArgumentException si el proyecto o la tarea no existen
+     * @throws Exception si el proyecto está finalizado, la tarea ya tiene
+     *         empleado o no hay empleados disponibles que cumplan
+     */
+    public void asignarResponsablePorCategoria(Integer numero, String titulo, boolean permitirCategoriaSuperior)
+            throws Exception {
+        if (archivados.containsKey(numero)) {
+            throw new Exception("No se pueden asignar tareas en un proyecto finalizado");
+        }
+        Proyecto proyecto = proyectos.get(numero);
+        if (proyecto == null) {
+            throw new IllegalArgumentException("Proyecto no encontrado");
+        }
+        Tarea tarea = buscarTarea(proyecto, titulo);
+        if (tarea.tieneEmpleadoAsignado()) {
+            throw new Exception("La tarea ya tiene un empleado asignado");
+        }
+
+        IEmpleado empleado = indiceCategorias.buscar(tarea.getCategoriaRequerida(), permitirCategoriaSuperior,
+                libreParaTarea(proyecto, tarea));
+        if (empleado == null) {
+            proyecto.setEstado(Estado.pendiente);
+            registrarCambio(proyecto);
+            espera.encolar(numero, titulo, proyecto.getDiaInicio(), tarea.getCategoriaRequerida());
+            throw new Exception("No hay empleados disponibles");
+        }
+
+        asignar(proyecto, tarea, empleado);
+    }
+
+    /**
+     * Asigna un empleado a una tarea sin responsable y actualiza todo lo que
+     * depende de la asignación: reserva en el calendario del empleado,
+     * historial, costo, estado, índices y eventos.
+     * La reserva es la de reservaPara(); el llamador ya verificó que el
+     * empleado está libre en esas fechas (ver libreParaTarea).
+     *
+     * @param proyecto El proyecto de la tarea
+     * @param tarea La tarea, sin empleado asignado
+     * @param empleado El empleado disponible a asignar
+     */
+    private void asignar(Proyecto proyecto, Tarea tarea, IEmpleado empleado) {
+        asignar(proyecto, tarea, empleado, reservaPara(proyecto, tarea, empleado.getLegajo()));
+    }
+
+    /**
+     * Igual que asignar(proyecto, tarea, empleado), pero con una reserva ya calculada.
+     *
+     * @throws IllegalArgumentException si la reserva se superpone con otra del empleado
+     */
+    private void asignar(Proyecto proyecto, Tarea tarea, IEmpleado empleado, Reserva reserva) {
+        reservar(reserva);
+        String estadoAnterior = proyecto.getEstado();
+        espera.quitar(proyecto.getNumero(), tarea.getTitulo());
+        tarea.setEmpleadoAsignado(empleado);
+        proyecto.registrarEmpleadoEnTarea(tarea, empleado);
+        proyectosPorEmpleado.computeIfAbsent(empleado.getLegajo(), k -> new HashSet<>()).add(proyecto.getNumero());
+        ranking.sumar(CriterioRanking.DIAS_ASIGNADOS, empleado.getLegajo(), tarea.getDuracionEstimada());
+        notificarAsignacion(empleado, tarea);
+        proyecto.actualizarCostoTotal();
+        proyecto.actualizarEstado();
+        registrarCambio(proyecto);
+        registrarCambio(empleado);
+        eventos.publicar(TipoEvento.TAREA_ASIGNADA, proyecto.getNumero(), empleado.getLegajo(), tarea.getTitulo(),
+                null);
+        registrarEnLineaDeTiempo(proyecto, TipoEvento.TAREA_ASIGNADA, tarea.getTitulo(), empleado.getLegajo(), 0);
+        publicarCambioEstado(proyecto, estadoAnterior);
+    }
+
+    @Override
+    public void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) throws Exception {
+        if (archivados.containsKey(numero)) {
             throw new Exception("No se pueden reasignar empleados en un proyecto finalizado");
         }
+        Proyecto proyecto = proyectos.get(numero);
+        if (proyecto == null) {
+            throw new IllegalArgumentException("Proyecto no encontrado");
+        }
 
         // Verificar si el empleado existe
         IEmpleado nuevoEmpleado = empleados.get(legajo);
@@ -164,24 +523,61 @@ public class HomeSolution implements IHomeSolution {
             throw new Exception("La tarea no tiene un empleado asignado previamente");
         }
 
-        // Liberar al empleado actual y asignar el nuevo
-        empleadoActual.marcarComoDisponible();
-        nuevoEmpleado.marcarComoAsignado();
-        tareaEncontrada.setEmpleadoAsignado(nuevoEmpleado);
-        proyecto.registrarEmpleadoEnTarea(tareaEncontrada, nuevoEmpleado);
+        reasignar(proyecto, tareaEncontrada, nuevoEmpleado);
+    }
+
+    /**
+     * Cambia el responsable de una tarea y actualiza todo lo que depende de
+     * la asignación. La reserva del empleado anterior se libera y el nuevo
+     * queda reservado desde hoy (o el inicio temprano de la tarea) por toda su
+     * duración. El empleado anterior queda libre, salvo que tenga otras tareas,
+     * y recibe, si hay, la siguiente tarea en espera.
+     *
+     * @param proyecto El proyecto de la tarea
+     * @param tarea La tarea, con un empleado asignado
+     * @param nuevoEmpleado El nuevo responsable
+     * @throws Exception si el nuevo empleado tiene otra reserva en esas fechas
+     */
+    private void reasignar(Proyecto proyecto, Tarea tarea, IEmpleado nuevoEmpleado) throws Exception {
+        Reserva anterior = liberarReserva(proyecto.getNumero(), tarea.getTitulo());
+        if (!libreParaTarea(proyecto, tarea).test(nuevoEmpleado)) {
+            if (anterior != null) {
+                reservar(anterior);
+            }
+            throw new Exception("El empleado tiene otra reserva en las fechas de la tarea");
+        }
+        reservar(reservaPara(proyecto, tarea, nuevoEmpleado.getLegajo()));
+        IEmpleado empleadoActual = tarea.getEmpleadoAsignado();
+        tarea.setEmpleadoAsignado(nuevoEmpleado);
+        actualizarDisponibilidad(empleadoActual);
+        proyecto.registrarEmpleadoEnTarea(tarea, nuevoEmpleado);
+        proyectosPorEmpleado.computeIfAbsent(nuevoEmpleado.getLegajo(), k -> new HashSet<>())
+                .add(proyecto.getNumero());
+        ranking.sumar(CriterioRanking.DIAS_ASIGNADOS, empleadoActual.getLegajo(), -tarea.getDuracionEstimada());
+        ranking.sumar(CriterioRanking.DIAS_ASIGNADOS, nuevoEmpleado.getLegajo(), tarea.getDuracionEstimada());
+        notificarDesasignacion(empleadoActual, tarea);
+        notificarAsignacion(nuevoEmpleado, tarea);
+        proyecto.actualizarCostoTotal();
+        registrarCambio(proyecto);
+        registrarCambio(empleadoActual);
+        registrarCambio(nuevoEmpleado);
+        eventos.publicar(TipoEvento.TAREA_REASIGNADA, proyecto.getNumero(), nuevoEmpleado.getLegajo(),
+                tarea.getTitulo(), String.valueOf(empleadoActual.getLegajo()));
+        registrarEnLineaDeTiempo(proyecto, TipoEvento.TAREA_REASIGNADA, tarea.getTitulo(),
+                nuevoEmpleado.getLegajo(), 0);
+        atenderEspera(empleadoActual);
     }
 
     @Override
     public void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) throws Exception {
+        if (archivados.containsKey(numero)) {
+            throw new Exception("No se pueden reasignar empleados en un proyecto finalizado");
+        }
         Proyecto proyecto = proyectos.get(numero);
         if (proyecto == null) {
             throw new IllegalArgumentException("Proyecto no encontrado");
         }
 
-        if (proyecto.getEstado().equals(Estado.finalizado)) {
-            throw new Exception("No se pueden reasignar empleados en un proyecto finalizado");
-        }
-
         // Encontrar la tarea
         Tarea tareaEncontrada = null;
         for (Tarea tarea : proyecto.getTareas()) {
@@ -201,52 +597,53 @@ public class HomeSolution implements IHomeSolution {
         }
 
         // Buscar el empleado con menos retrasos
-        IEmpleado mejorEmpleado = null;
-        int menorRetrasos = Integer.MAX_VALUE;
-
-        for (IEmpleado empleado : empleados.values()) {
-            if (empleado.estaDisponible() && empleado.getCantidadRetrasos() < menorRetrasos) {
-                mejorEmpleado = empleado;
-                menorRetrasos = empleado.getCantidadRetrasos();
-            }
-        }
+        IEmpleado mejorEmpleado = menosRetrasos.elegir(tareaEncontrada, libreParaTarea(proyecto, tareaEncontrada));
 
         if (mejorEmpleado == null) {
             throw new Exception("No hay empleados disponibles");
         }
 
-        // Liberar al empleado actual y asignar el nuevo
-        empleadoActual.marcarComoDisponible();
-        mejorEmpleado.marcarComoAsignado();
-        tareaEncontrada.setEmpleadoAsignado(mejorEmpleado);
-        proyecto.registrarEmpleadoEnTarea(tareaEncontrada, mejorEmpleado);
+        reasignar(proyecto, tareaEncontrada, mejorEmpleado);
     }
 
     @Override
     public void registrarRetrasoEnTarea(Integer nroProyecto, String tituloTarea, double retraso)
             throws IllegalArgumentException {
+        if (archivados.containsKey(nroProyecto)) {
+            throw new IllegalArgumentException("No se pueden registrar retrasos en un proyecto finalizado");
+        }
         Proyecto proyecto = proyectos.get(nroProyecto);
         if (proyecto == null) {
             throw new IllegalArgumentException("Proyecto no encontrado");
         }
 
-        if (proyecto.getEstado().equals(Estado.finalizado)) {
-            throw new IllegalArgumentException("No se pueden registrar retrasos en un proyecto finalizado");
-        }
-
         // Encontrar la tarea
         for (Tarea tarea : proyecto.getTareas()) {
             if (tarea.getTitulo().equals(tituloTarea)) {
                 IEmpleado empleado = tarea.getEmpleadoAsignado();
+                boolean teniaRetrasos = empleado != null && empleado.tuvoRetrasos();
                 if (empleado != null) {
                     empleado.incrementarRetrasos();
                 }
                 tarea.agregarRetraso(retraso);
+                proyecto.actualizarPlanificacion(tarea);
 
                 // Actualizar fecha real del proyecto
                 int diasRetraso = (int) Math.ceil(retraso);
-                proyecto.setFechaFin(proyecto.getFechaRealFin().plusDays(diasRetraso));
+                proyecto.setDiaFin((int) proyecto.getCalendario().sumarDiasHabiles(proyecto.getDiaFin(), diasRetraso));
                 proyecto.actualizarCostoTotal();
+                registrarCambio(proyecto);
+                if (empleado != null) {
+                    registrarCambio(empleado);
+                    // Con el primer retraso el empleado pierde el bonus en todos sus proyectos
+                    if (!teniaRetrasos && empleado.tuvoRetrasos()) {
+                        recalcularProyectosDe(empleado.getLegajo());
+                    }
+                }
+                eventos.publicar(TipoEvento.RETRASO_REGISTRADO, nroProyecto,
+                        empleado != null ? empleado.getLegajo() : 0, tituloTarea, String.valueOf(retraso));
+                registrarEnLineaDeTiempo(proyecto, TipoEvento.RETRASO_REGISTRADO, tituloTarea,
+                        empleado != null ? empleado.getLegajo() : 0, retraso);
                 return;
             }
         }
@@ -262,15 +659,14 @@ public class HomeSolution implements IHomeSolution {
             throw new IllegalArgumentException("El título de la tarea no puede ser vacío");
         }
 
+        if (archivados.containsKey(numero)) {
+            throw new Exception("No se pueden modificar tareas en un proyecto finalizado");
+        }
         Proyecto proyecto = proyectos.get(numero);
         if (proyecto == null) {
             throw new IllegalArgumentException("Proyecto no encontrado");
         }
 
-        if (proyecto.getEstado().equals(Estado.finalizado)) {
-            throw new Exception("No se pueden modificar tareas en un proyecto finalizado");
-        }
-
         for (Tarea tarea : proyecto.getTareas()) {
             if (tarea.getTitulo().equals(titulo)) {
                 if (tarea.isTerminada()) {
@@ -284,6 +680,23 @@ public class HomeSolution implements IHomeSolution {
                 }
 
                 tarea.setTerminada(true);
+                liberarReserva(numero, titulo);
+                if (empleado != null) {
+                    actualizarDisponibilidad(empleado);
+                    ranking.sumar(CriterioRanking.COSTO_ACUMULADO, empleado.getLegajo(),
+                            tarea.getCostoTarea(proyecto.getDiaInicioTarea(tarea)));
+                }
+                registrarCambio(proyecto);
+                if (empleado != null) {
+                    registrarCambio(empleado);
+                }
+                eventos.publicar(TipoEvento.TAREA_FINALIZADA, numero,
+                        empleado != null ? empleado.getLegajo() : 0, titulo, null);
+                registrarEnLineaDeTiempo(proyecto, TipoEvento.TAREA_FINALIZADA, titulo,
+                        empleado != null ? empleado.getLegajo() : 0, 0);
+                if (empleado != null) {
+                    atenderEspera(empleado);
+                }
                 return;
             }
         }
@@ -300,13 +713,16 @@ public class HomeSolution implements IHomeSolution {
 
     @Override
     public void finalizarProyecto(Integer numero, String fechaFin) throws IllegalArgumentException {
+        if (archivados.containsKey(numero)) {
+            throw new IllegalArgumentException("El proyecto ya está finalizado");
+        }
         Proyecto proyecto = proyectos.get(numero);
         if (proyecto == null) {
             throw new IllegalArgumentException("Proyecto no encontrado");
         }
 
         LocalDate fecha = LocalDate.parse(fechaFin);
-        if (fecha.isBefore(proyecto.getFechaInicio())) {
+        if (Fecha.aDia(fecha) < proyecto.getDiaInicio()) {
             throw new IllegalArgumentException("La fecha de finalización no puede ser anterior a la fecha de inicio");
         }
 
@@ -318,26 +734,228 @@ public class HomeSolution implements IHomeSolution {
 
         proyecto.setFechaFin(fecha);
         proyecto.actualizarCostoTotal();
+        String estadoAnterior = proyecto.getEstado();
         proyecto.setEstado(Estado.finalizado);
+        registrarCambio(proyecto);
+        publicarCambioEstado(proyecto, estadoAnterior);
+        eventos.publicar(TipoEvento.PROYECTO_FINALIZADO, numero, 0, null, fechaFin);
+        registrarEnLineaDeTiempo(proyecto, TipoEvento.PROYECTO_FINALIZADO, null, 0, 0);
+        archivar(proyecto);
+    }
+
+    /**
+     * Reemplaza un proyecto finalizado por su versión archivada.
+     * El proyecto deja de estar en memoria con sus tareas e historial;
+     * las consultas pasan a resolverse contra el archivo.
+     *
+     * @param proyecto El proyecto finalizado
+     */
+    private void archivar(Proyecto proyecto) {
+        ProyectoArchivado archivado = ProyectoArchivado.archivar(proyecto);
+        archivados.put(archivado.getNumero(), archivado);
+        costoArchivado = Math.addExact(costoArchivado, archivado.getCostoCentavos());
+        Long sumado = costosSumados.remove(proyecto.getNumero());
+        if (sumado != null) {
+            costoActivo -= sumado;
+        }
+        proyectos.remove(proyecto.getNumero());
+        // El archivo no cambia más: los índices y vistas conservan solo lo necesario para consultarlo
+        indiceProyectos.congelar(proyecto.getNumero());
+        indiceFechas.congelar(proyecto.getNumero());
+        for (VistaMaterializada vista : vistas.values()) {
+            vista.congelar(proyecto.getNumero());
+        }
+        espera.quitarProyecto(proyecto.getNumero());
+        for (Tarea tarea : proyecto.getTareas()) {
+            IEmpleado empleado = tarea.getEmpleadoAsignado();
+            Set<Integer> delEmpleado = empleado != null ? proyectosPorEmpleado.get(empleado.getLegajo()) : null;
+            if (delEmpleado != null) {
+                delEmpleado.remove(proyecto.getNumero());
+            }
+        }
+
+        // Las reservas se liberan al finalizar cada tarea; por las dudas no queda ninguna
+        Map<String, Reserva> reservas = reservasPorTarea.remove(proyecto.getNumero());
+        if (reservas != null) {
+            for (Reserva reserva : reservas.values()) {
+                calendarios.get(reserva.getLegajo()).cancelar(reserva);
+            }
+        }
+    }
+
+    /**
+     * Marca un proyecto como modificado asignándole una nueva versión.
+     * Debe llamarse al final de cada operación que cambie el proyecto.
+     *
+     * @param proyecto El proyecto modificado
+     */
+    private void registrarCambio(Proyecto proyecto) {
+        if (proyectos.containsKey(proyecto.getNumero())) {
+            long costo = proyecto.getCostoCentavos();
+            Long anterior = costosSumados.put(proyecto.getNumero(), costo);
+            costoActivo = Math.addExact(costoActivo, costo - (anterior != null ? anterior : 0));
+        }
+        proyecto.marcarModificado(++versionActual);
+        proyectosModificados.add(proyecto.getNumero());
+        indiceProyectos.actualizar(proyecto);
+        indiceFechas.actualizar(proyecto);
+        for (VistaMaterializada vista : vistas.values()) {
+            vista.actualizar(proyecto);
+        }
+    }
+
+    /**
+     * Marca un empleado como modificado asignándole una nueva versión.
+     *
+     * @param empleado El empleado modificado
+     */
+    private void registrarCambio(IEmpleado empleado) {
+        versionesEmpleados.put(empleado.getLegajo(), ++versionActual);
+        empleadosModificados.add(empleado.getLegajo());
+        ranking.establecer(CriterioRanking.RETRASOS, empleado.getLegajo(), empleado.getCantidadRetrasos());
+        for (EstrategiaAsignacion e : estrategias) {
+            e.actualizar(empleado);
+        }
+    }
+
+    /**
+     * Publica un evento CAMBIO_ESTADO_PROYECTO si el estado del proyecto cambió.
+     *
+     * @param proyecto El proyecto modificado
+     * @param estadoAnterior El estado que tenía antes de la operación
+     */
+    private void publicarCambioEstado(Proyecto proyecto, String estadoAnterior) {
+        if (!proyecto.getEstado().equals(estadoAnterior)) {
+            eventos.publicar(TipoEvento.CAMBIO_ESTADO_PROYECTO, proyecto.getNumero(), 0, null,
+                    estadoAnterior + " -> " + proyecto.getEstado());
+            registrarEnLineaDeTiempo(proyecto, TipoEvento.CAMBIO_ESTADO_PROYECTO, null, 0, 0);
+        }
+    }
+
+    /**
+     * Agrega a la línea de tiempo del proyecto un registro con la modificación
+     * y el estado, las fechas y el costo resultantes.
+     * Si el reloj retrocede, se usa el momento del último registro para
+     * mantener el orden cronológico.
+     */
+    private void registrarEnLineaDeTiempo(Proyecto proyecto, TipoEvento tipo, String titulo, int legajo,
+            double valor) {
+        LineaDeTiempoProyecto linea = proyecto.getLineaDeTiempo();
+        LocalDateTime momento = LocalDateTime.now(reloj);
+        LocalDateTime ultimo = linea.ultimoMomento();
+        if (ultimo != null && momento.isBefore(ultimo)) {
+            momento = ultimo;
+        }
+        linea.registrar(new RegistroHistorial(momento, tipo, titulo, legajo, valor, proyecto.getEstado(),
+                proyecto.getDiaEstimadoFin(), proyecto.getDiaRealFin(), proyecto.getCostoCentavos()));
+    }
+
+    /**
+     * Reconstruye cómo estaba un proyecto en un momento pasado: estado, fechas,
+     * costo, responsables, retrasos y tareas terminadas.
+     * Funciona también con proyectos finalizados.
+     *
+     * @param numero Número del proyecto
+     * @param momento El momento a consultar
+     * @return El estado del proyecto en ese momento
+     * @throws IllegalArgumentException si el proyecto no existe o no existía en ese momento
+     */
+    public FotoProyecto consultarProyectoAl(Integer numero, LocalDateTime momento) {
+        ProyectoArchivado archivado = archivados.get(numero);
+        if (archivado != null) {
+            return archivado.getLineaDeTiempo().consultarAl(momento);
+        }
+        Proyecto proyecto = proyectos.get(numero);
+        if (proyecto == null) {
+            throw new IllegalArgumentException("Proyecto no encontrado");
+        }
+        return proyecto.getLineaDeTiempo().consultarAl(momento);
+    }
+
+    /**
+     * Crea una suscripción a los eventos que el sistema emite en cada modificación.
+     * La suscripción recibe solo los eventos publicados a partir de este momento.
+     * El buffer guarda los últimos CAPACIDAD_EVENTOS eventos: si la suscripción
+     * se atrasa más, queda desbordada y debe resincronizarse (ver
+     * SuscripcionEventos). Hay que cancelarla al dejar de usarla.
+     *
+     * @return La nueva suscripción
+     */
+    public SuscripcionEventos suscribirEventos() {
+        return eventos.suscribir();
+    }
+
+    /**
+     * @return La versión de la última modificación registrada en el sistema
+     */
+    public long getVersionActual() {
+        return versionActual;
+    }
+
+    /**
+     * @param legajo Legajo del empleado
+     * @return La versión de la última modificación del empleado, o 0 si no existe
+     */
+    public long getVersionEmpleado(int legajo) {
+        Long version = versionesEmpleados.get(legajo);
+        return version == null ? 0 : version;
+    }
+
+    /**
+     * Devuelve los proyectos y empleados modificados desde el último corte y
+     * comienza un corte nuevo. Permite guardar incrementalmente solo lo que
+     * cambió, con un costo proporcional a la cantidad de modificaciones y no al
+     * tamaño total del sistema.
+     *
+     * @return Los cambios acumulados desde el corte anterior
+     */
+    public CambiosPendientes tomarCambiosPendientes() {
+        CambiosPendientes cambios = new CambiosPendientes(versionUltimoCorte, versionActual,
+                proyectosModificados, empleadosModificados);
+        proyectosModificados = new LinkedHashSet<>();
+        empleadosModificados = new LinkedHashSet<>();
+        versionUltimoCorte = versionActual;
+        return cambios;
     }
 
     @Override
     public double costoProyecto() {
-        double costoTotal = 0;
+        // Cada cambio que afecta un costo recalcula el proyecto afectado y
+        // actualiza la suma (ver registrarCambio y recalcularProyectosDe)
+        return Dinero.aDouble(Math.addExact(costoArchivado, costoActivo));
+    }
+
+    /**
+     * Recalcula desde cero el costo de cada proyecto no finalizado y lo
+     * compara con el costo guardado y con la suma mantenida en forma incremental.
+     *
+     * @return Descripción de cada diferencia encontrada; vacía si no hay desvíos
+     */
+    public List<String> verificarCostos() {
+        List<String> diferencias = new ArrayList<>();
+        long total = 0;
         for (Proyecto proyecto : proyectos.values()) {
-            proyecto.actualizarCostoTotal();
-            costoTotal += proyecto.getCostoCalculado();
+            long esperado = proyecto.calcularCostoCentavos();
+            long sumado = costosSumados.getOrDefault(proyecto.getNumero(), 0L);
+            if (esperado != proyecto.getCostoCentavos() || esperado != sumado) {
+                diferencias.add("El proyecto " + proyecto.getNumero() + " cuesta " + Dinero.aDouble(esperado)
+                        + " pero tiene guardado " + proyecto.getCostoCalculado() + " y sumado "
+                        + Dinero.aDouble(sumado));
+            }
+            total = Math.addExact(total, esperado);
+        }
+        if (total != costoActivo) {
+            diferencias.add("El costo de los proyectos en curso es " + Dinero.aDouble(total)
+                    + " pero la suma mantenida es " + Dinero.aDouble(costoActivo));
         }
-        return costoTotal;
+        return diferencias;
     }
 
     @Override
     public List<Tupla<Integer, String>> proyectosFinalizados() {
         List<Tupla<Integer, String>> resultado = new ArrayList<>();
-        for (Proyecto proyecto : proyectos.values()) {
-            if (Estado.finalizado.equals(proyecto.getEstado())) {
-                resultado.add(new Tupla<>(proyecto.getNumero(), proyecto.getDomicilio()));
-            }
+        for (ProyectoArchivado proyecto : archivados.values()) {
+            resultado.add(new Tupla<>(proyecto.getNumero(), proyecto.getDomicilio()));
         }
         return resultado;
     }
@@ -364,8 +982,362 @@ public class HomeSolution implements IHomeSolution {
         return resultado;
     }
 
+    /**
+     * Lista los proyectos de un estado en forma paginada y con orden estable.
+     * Cada página cuesta O(log n + tamaño), sin recorrer todos los proyectos.
+     *
+     * @param estado Estado de los proyectos (ver Estado)
+     * @param orden Criterio de orden
+     * @param ascendente true para orden ascendente, false para descendente
+     * @param desde Cursor de la página anterior (PaginaProyectos.getSiguiente()), o null
+     * @param tamanio Cantidad máxima de proyectos por página
+     * @return La página pedida
+     * @throws IllegalArgumentException si el estado, el orden o el tamaño son inválidos
+     */
+    public PaginaProyectos listarProyectos(String estado, OrdenProyectos orden, boolean ascendente,
+            CursorProyectos desde, int tamanio) {
+        return indiceProyectos.listar(estado, orden, ascendente, desde, tamanio);
+    }
+
+    /**
+     * Busca proyectos por cliente, domicilio o título y descripción de sus tareas.
+     * La búsqueda no distingue mayúsculas ni acentos y cada palabra se toma como
+     * prefijo: "san mar" encuentra "San Martín 1000".
+     *
+     * @param consulta Texto a buscar
+     * @param limite Cantidad máxima de resultados
+     * @return Lista de tuplas (número, domicilio), de la más relevante a la menos
+     * @throws IllegalArgumentException si el límite es <= 0
+     */
+    public List<Tupla<Integer, String>> buscarProyectos(String consulta, int limite) {
+        return aTuplas(indiceBusqueda.buscar(consulta, limite));
+    }
+
+    /**
+     * Devuelve los proyectos que están en curso en algún día del rango indicado,
+     * es decir, cuyo intervalo [fecha de inicio, fecha de fin] se superpone con él.
+     * Como fecha de fin se toma la real si el proyecto la tiene (finalizado o
+     * demorado) y la estimada si no.
+     *
+     * @param desde Primer día del rango (formato YYYY-MM-DD)
+     * @param hasta Último día del rango, inclusive (formato YYYY-MM-DD)
+     * @return Lista de tuplas (número, domicilio) ordenada por fecha de inicio
+     * @throws IllegalArgumentException si desde es posterior a hasta
+     */
+    public List<Tupla<Integer, String>> proyectosEnCurso(String desde, String hasta) {
+        return aTuplas(indiceFechas.superpuestos((int) LocalDate.parse(desde).toEpochDay(),
+                (int) LocalDate.parse(hasta).toEpochDay()));
+    }
+
+    /**
+     * Devuelve los proyectos que están en curso en la fecha indicada.
+     *
+     * @param fecha La fecha a consultar (formato YYYY-MM-DD)
+     * @return Lista de tuplas (número, domicilio) ordenada por fecha de inicio
+     */
+    public List<Tupla<Integer, String>> proyectosEnCurso(String fecha) {
+        return proyectosEnCurso(fecha, fecha);
+    }
+
+    /**
+     * Devuelve los proyectos cuya fecha real de fin cae dentro del rango indicado.
+     *
+     * @param desde Primer día del rango (formato YYYY-MM-DD)
+     * @param hasta Último día del rango, inclusive (formato YYYY-MM-DD)
+     * @return Lista de tuplas (número, domicilio) ordenada por fecha real de fin
+     * @throws IllegalArgumentException si desde es posterior a hasta
+     */
+    public List<Tupla<Integer, String>> proyectosQueFinalizanEntre(String desde, String hasta) {
+        return aTuplas(indiceFechas.finalizanEntre((int) LocalDate.parse(desde).toEpochDay(),
+                (int) LocalDate.parse(hasta).toEpochDay()));
+    }
+
+    private List<Tupla<Integer, String>> aTuplas(List<Integer> numeros) {
+        List<Tupla<Integer, String>> resultado = new ArrayList<>();
+        for (Integer numero : numeros) {
+            resultado.add(new Tupla<>(numero, consultarDomicilioProyecto(numero)));
+        }
+        return resultado;
+    }
+
+    /**
+     * Consulta el total de un grupo en una vista agregada. O(1).
+     * Por ejemplo consultarVista(VISTA_COSTO_POR_CLIENTE, "Pedro Gomez").
+     *
+     * @param vista Nombre de la vista (constantes VISTA_*)
+     * @param grupo Grupo a consultar (cliente, mes YYYY-MM o categoría)
+     * @return El total del grupo, o 0 si no tiene aportes
+     * @throws IllegalArgumentException si la vista no existe
+     */
+    public double consultarVista(String vista, String grupo) {
+        return obtenerVista(vista).valor(grupo);
+    }
+
+    /**
+     * @param vista Nombre de la vista (constantes VISTA_*)
+     * @return Copia de los totales de todos los grupos de la vista
+     * @throws IllegalArgumentException si la vista no existe
+     */
+    public Map<String, Double> consultarVista(String vista) {
+        return obtenerVista(vista).getTotales();
+    }
+
+    /**
+     * Recalcula todas las vistas desde cero para los proyectos no finalizados y
+     * las compara con los valores mantenidos en forma incremental.
+     *
+     * @return Descripción de cada diferencia encontrada; vacía si no hay desvíos
+     */
+    public List<String> verificarVistas() {
+        List<String> diferencias = new ArrayList<>();
+        for (VistaMaterializada vista : vistas.values()) {
+            diferencias.addAll(vista.verificar(proyectos.values()));
+        }
+        return diferencias;
+    }
+
+    private VistaMaterializada obtenerVista(String nombre) {
+        VistaMaterializada vista = vistas.get(nombre);
+        if (vista == null) {
+            throw new IllegalArgumentException("Vista no encontrada");
+        }
+        return vista;
+    }
+
+    /**
+     * Crea un escenario de simulación sobre un proyecto no finalizado.
+     * Sobre el escenario se pueden aplicar reasignaciones y retrasos hipotéticos
+     * y evaluar cómo cambian el costo, el margen y la fecha real de fin, sin
+     * modificar el sistema.
+     *
+     * @param numero Número del proyecto
+     * @return El escenario inicial, sin cambios
+     * @throws IllegalArgumentException si el proyecto no existe o está finalizado
+     */
+    public EscenarioCostos simularProyecto(Integer numero) {
+        if (archivados.containsKey(numero)) {
+            throw new IllegalArgumentException("No se pueden simular cambios en un proyecto finalizado");
+        }
+        Proyecto proyecto = proyectos.get(numero);
+        if (proyecto == null) {
+            throw new IllegalArgumentException("Proyecto no encontrado");
+        }
+        return EscenarioCostos.de(proyecto, empleados);
+    }
+
+    /**
+     * Analiza el riesgo de plazo y costo de los proyectos activos simulando
+     * retrasos según el historial de sus responsables (ver SimuladorRiesgo).
+     *
+     * @param ensayos Cantidad de ensayos por proyecto
+     * @param semilla Semilla del generador; la misma semilla da el mismo resultado
+     * @return Resultado por número de proyecto, ordenado por número
+     * @throws IllegalArgumentException si ensayos <= 0
+     */
+    public Map<Integer, ResultadoRiesgo> analizarRiesgo(int ensayos, long semilla) {
+        if (ensayos <= 0) {
+            throw new IllegalArgumentException("La cantidad de ensayos debe ser mayor que 0");
+        }
+        Map<Integer, ResultadoRiesgo> resultado = new TreeMap<>();
+        for (Proyecto proyecto : proyectos.values()) {
+            if (Estado.activo.equals(proyecto.getEstado())) {
+                // Semilla distinta por proyecto pero fija para la misma semilla general
+                resultado.put(proyecto.getNumero(),
+                        new SimuladorRiesgo(proyecto).simular(ensayos, semilla + proyecto.getNumero()));
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Asigna de una sola vez las tareas sin responsable y sin terminar de todos
+     * los proyectos no finalizados a los empleados disponibles, minimizando el
+     * costo total.
+     *
+     * El costo de asignar una tarea a un empleado es el costo de su duración
+     * con la tarifa del empleado vigente al inicio planificado de la tarea
+     * (contratados y de planta cobran distinto los medios días),
+     * multiplicado por (1 + pesoRetrasos * cantidad de retrasos del empleado).
+     * Los empleados que no cumplen la categoría requerida de la tarea, o que
+     * tienen reservas en las fechas que ocuparía, no se consideran para ella.
+     * Se asignan tantas tareas como sea posible; si hay más tareas que
+     * empleados, quedan sin asignar las más caras.
+     *
+     * El costo óptimo y el de referencia se miden con ese mismo costo ponderado
+     * (con peso 0 es el costo real) y sobre las mismas tareas. La referencia
+     * asigna esas tareas en orden al primer empleado disponible que cumpla la
+     * categoría; si así no logra asignarlas todas, no hay con qué comparar y
+     * el ahorro informado es 0.
+     *
+     * @param pesoRetrasos Penalización por retraso histórico (0 para ignorarlos)
+     * @return Las asignaciones realizadas y el ahorro respecto del primer disponible
+     * @throws IllegalArgumentException si el peso es negativo
+     */
+    public ResultadoAsignacionMasiva asignarTareasPendientesOptimo(double pesoRetrasos) {
+        if (pesoRetrasos < 0) {
+            throw new IllegalArgumentException("El peso de los retrasos no puede ser negativo");
+        }
+        List<IEmpleado> disponibles = new ArrayList<>();
+        for (IEmpleado empleado : empleados.values()) {
+            if (empleado.estaDisponible()) {
+                disponibles.add(empleado);
+            }
+        }
+        List<Proyecto> proyectosTareas = new ArrayList<>();
+        List<Tarea> tareas = new ArrayList<>();
+        List<Predicate<IEmpleado>> libres = new ArrayList<>();
+        // Inicio planificado de cada tarea, que fija la tarifa con que se cobra
+        List<Integer> dias = new ArrayList<>();
+        for (Proyecto proyecto : proyectos.values()) {
+            for (Tarea tarea : proyecto.getTareas()) {
+                if (tarea.tieneEmpleadoAsignado() || tarea.isTerminada()) {
+                    continue;
+                }
+                Predicate<IEmpleado> libre = libreParaTarea(proyecto, tarea);
+                if (admiteAlguno(tarea, disponibles, libre)) {
+                    proyectosTareas.add(proyecto);
+                    tareas.add(tarea);
+                    libres.add(libre);
+                    dias.add(proyecto.getDiaInicioTarea(tarea));
+                }
+            }
+        }
+        if (tareas.isEmpty()) {
+            return new ResultadoAsignacionMasiva(new ArrayList<>(), 0, 0);
+        }
+
+        // Las tareas de igual duración, categoría requerida, fechas e inicio planificado comparten el mismo
+        // vector de costos
+        Map<List<Object>, double[]> clases = new HashMap<>();
+        double[][] costos = new double[tareas.size()][];
+        for (int i = 0; i < tareas.size(); i++) {
+            Tarea tarea = tareas.get(i);
+            Predicate<IEmpleado> libre = libres.get(i);
+            int dia = dias.get(i);
+            Reserva rango = reservaPara(proyectosTareas.get(i), tarea, 0);
+            List<Object> clave = Arrays.asList(tarea.getCategoriaRequerida(), tarea.getDuracionEstimada(),
+                    rango.getDesde(), rango.getHasta(), dia);
+            costos[i] = clases.computeIfAbsent(clave, c -> costosPorEmpleado(tarea, dia, disponibles, pesoRetrasos,
+                    libre));
+        }
+        // Las filas deben ser el lado más chico de la matriz: si hay más tareas que empleados, las tareas son
+        // las columnas y la matriz se pasa por columnas, sin copiarla
+        boolean porTarea = tareas.size() <= disponibles.size();
+        int[] solucion = porTarea ? AsignadorOptimo.resolver(costos) : AsignadorOptimo.resolverPorColumnas(costos);
+
+        // Pares (tarea, empleado) elegidos, en el orden de las tareas
+        int[] empleadoDeTarea = new int[tareas.size()];
+        Arrays.fill(empleadoDeTarea, -1);
+        for (int k = 0; k < solucion.length; k++) {
+            if (solucion[k] != -1) {
+                empleadoDeTarea[porTarea ? k : solucion[k]] = porTarea ? solucion[k] : k;
+            }
+        }
+        double costoOptimo = 0;
+        List<Tarea> elegidas = new ArrayList<>();
+        List<Predicate<IEmpleado>> libresElegidas = new ArrayList<>();
+        List<Integer> diasElegidas = new ArrayList<>();
+        for (int t = 0; t < tareas.size(); t++) {
+            if (empleadoDeTarea[t] != -1) {
+                elegidas.add(tareas.get(t));
+                libresElegidas.add(libres.get(t));
+                diasElegidas.add(dias.get(t));
+                costoOptimo += costoPonderado(disponibles.get(empleadoDeTarea[t]), tareas.get(t), dias.get(t),
+                        pesoRetrasos, libres.get(t));
+            }
+        }
+        double costoGreedy = costoPrimerDisponible(elegidas, libresElegidas, diasElegidas, disponibles,
+                pesoRetrasos);
+        if (Double.isNaN(costoGreedy)) {
+            costoGreedy = costoOptimo;
+        }
+
+        List<ResultadoAsignacionMasiva.Asignacion> asignaciones = new ArrayList<>();
+        for (int t = 0; t < tareas.size(); t++) {
+            if (empleadoDeTarea[t] == -1) {
+                continue;
+            }
+            IEmpleado empleado = disponibles.get(empleadoDeTarea[t]);
+            Proyecto proyecto = proyectosTareas.get(t);
+            Tarea tarea = tareas.get(t);
+            double costo = Dinero.aDouble(empleado.calcularCostoCentavos(tarea.getDuracionEstimada(),
+                    empleado.tuvoRetrasos(), dias.get(t)));
+            asignar(proyecto, tarea, empleado);
+            asignaciones.add(new ResultadoAsignacionMasiva.Asignacion(proyecto.getNumero(), tarea.getTitulo(),
+                    empleado.getLegajo(), costo));
+        }
+        return new ResultadoAsignacionMasiva(asignaciones, costoOptimo, costoGreedy);
+    }
+
+    private static boolean admiteAlguno(Tarea tarea, List<IEmpleado> empleados, Predicate<IEmpleado> libre) {
+        for (IEmpleado empleado : empleados) {
+            if (tarea.admiteEmpleado(empleado) && libre.test(empleado)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param dia Inicio planificado de la tarea, del que se toma la tarifa del empleado
+     * @return El costo ponderado de asignar la tarea al empleado, o
+     *         Double.POSITIVE_INFINITY si el empleado no cumple la categoría
+     *         requerida o no está libre en las fechas de la tarea
+     */
+    private static double costoPonderado(IEmpleado empleado, Tarea tarea, int dia, double pesoRetrasos,
+            Predicate<IEmpleado> libre) {
+        if (!tarea.admiteEmpleado(empleado) || !libre.test(empleado)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        long costo = empleado.calcularCostoCentavos(tarea.getDuracionEstimada(), empleado.tuvoRetrasos(), dia);
+        return Dinero.aDouble(costo) * (1 + pesoRetrasos * empleado.getCantidadRetrasos());
+    }
+
+    private static double[] costosPorEmpleado(Tarea tarea, int dia, List<IEmpleado> empleados,
+            double pesoRetrasos, Predicate<IEmpleado> libre) {
+        double[] costos = new double[empleados.size()];
+        for (int i = 0; i < costos.length; i++) {
+            costos[i] = costoPonderado(empleados.get(i), tarea, dia, pesoRetrasos, libre);
+        }
+        return costos;
+    }
+
+    /**
+     * Costo ponderado de asignar las tareas en orden, cada una al primer
+     * empleado todavía sin usar que cumpla su categoría y esté libre en sus fechas.
+     *
+     * @param libres Para cada tarea, el filtro de empleados libres en sus fechas
+     * @param dias Para cada tarea, su inicio planificado
+     * @return El costo, o NaN si alguna tarea queda sin empleado
+     */
+    private static double costoPrimerDisponible(List<Tarea> tareas, List<Predicate<IEmpleado>> libres,
+            List<Integer> dias, List<IEmpleado> empleados, double pesoRetrasos) {
+        boolean[] usado = new boolean[empleados.size()];
+        double total = 0;
+        for (int t = 0; t < tareas.size(); t++) {
+            Tarea tarea = tareas.get(t);
+            Predicate<IEmpleado> libre = libres.get(t);
+            int elegido = -1;
+            for (int i = 0; i < empleados.size() && elegido == -1; i++) {
+                if (!usado[i] && tarea.admiteEmpleado(empleados.get(i)) && libre.test(empleados.get(i))) {
+                    elegido = i;
+                }
+            }
+            if (elegido == -1) {
+                return Double.NaN;
+            }
+            usado[elegido] = true;
+            total += costoPonderado(empleados.get(elegido), tarea, dias.get(t), pesoRetrasos, libre);
+        }
+        return total;
+    }
+
     @Override
     public Object[] tareasDeUnProyecto(Integer numero) {
+        ProyectoArchivado archivado = archivados.get(numero);
+        if (archivado != null) {
+            return archivado.getTitulosTareas();
+        }
         Proyecto proyecto = proyectos.get(numero);
         if (proyecto == null) {
             return new Object[0];
@@ -377,12 +1349,15 @@ public class HomeSolution implements IHomeSolution {
 
     @Override
     public boolean estaFinalizado(Integer numero) {
-        Proyecto proyecto = proyectos.get(numero);
-        return proyecto != null && Estado.finalizado.equals(proyecto.getEstado());
+        return archivados.containsKey(numero);
     }
 
     @Override
     public String consultarDomicilioProyecto(Integer numero) {
+        ProyectoArchivado archivado = archivados.get(numero);
+        if (archivado != null) {
+            return archivado.getDomicilio();
+        }
         Proyecto proyecto = proyectos.get(numero);
         if (proyecto == null) {
             throw new IllegalArgumentException("Proyecto no encontrado");
@@ -392,11 +1367,15 @@ public class HomeSolution implements IHomeSolution {
 
     @Override
     public String consultarProyecto(Integer numero) {
+        ProyectoArchivado archivado = archivados.get(numero);
+        if (archivado != null) {
+            return cacheProyectos.obtener(numero, archivado.getVersion(), archivado::toString);
+        }
         Proyecto proyecto = proyectos.get(numero);
         if (proyecto == null) {
             throw new IllegalArgumentException("Proyecto no encontrado");
         }
-        return proyecto.toString();
+        return cacheProyectos.obtener(numero, proyecto.getVersion(), proyecto::toString);
     }
 
     @Override
@@ -409,6 +1388,10 @@ public class HomeSolution implements IHomeSolution {
 
     @Override
     public List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero) {
+        ProyectoArchivado archivado = archivados.get(numero);
+        if (archivado != null) {
+            return archivado.getEmpleadosAsignados();
+        }
         Proyecto proyecto = proyectos.get(numero);
         if (proyecto == null) {
             throw new IllegalArgumentException("Proyecto no encontrado");
@@ -433,6 +1416,75 @@ public class HomeSolution implements IHomeSolution {
         return resultado;
     }
 
+    /**
+     * Devuelve los K empleados con mayor (o menor) valor según un criterio:
+     * retrasos, costo acumulado de tareas finalizadas o días asignados.
+     * Cuesta O(K), sin recorrer a todos los empleados.
+     *
+     * @param criterio Criterio del ranking
+     * @param k Cantidad de empleados a devolver
+     * @param mayores true para los de mayor valor, false para los de menor
+     * @return Lista de tuplas (legajo, valor)
+     * @throws IllegalArgumentException si k <= 0
+     */
+    public List<Tupla<Integer, Double>> rankingEmpleados(CriterioRanking criterio, int k, boolean mayores) {
+        return ranking.primeros(criterio, k, mayores);
+    }
+
+    /**
+     * Registra una nueva tarifa de un empleado (valor por hora si es
+     * contratado, por día si es de planta) vigente a partir de una fecha.
+     * Las tareas que empiezan desde esa fecha se cobran con la nueva tarifa.
+     *
+     * Solo se recalcula el costo de los proyectos en curso en los que trabaja
+     * el empleado; los proyectos finalizados conservan el costo con que se cerraron.
+     *
+     * @param legajo Legajo del empleado
+     * @param desde Primer día de vigencia de la tarifa
+     * @param valor La nueva tarifa
+     * @throws IllegalArgumentException si el empleado no existe, la fecha es nula o el valor no es positivo
+     */
+    public void actualizarTarifaEmpleado(int legajo, LocalDate desde, double valor) {
+        IEmpleado empleado = empleados.get(legajo);
+        if (empleado == null) {
+            throw new IllegalArgumentException("Empleado no encontrado");
+        }
+        empleado.actualizarTarifa(desde, valor);
+        registrarCambio(empleado);
+        eventos.publicar(TipoEvento.TARIFA_ACTUALIZADA, 0, legajo, null, desde + " " + valor);
+        recalcularProyectosDe(legajo);
+    }
+
+    /**
+     * Recalcula el costo de los proyectos en curso que dependen de un
+     * empleado, después de un cambio que afecta lo que cobra (tarifa o bonus).
+     * Solo los proyectos cuyo costo cambió se marcan como modificados.
+     *
+     * @param legajo Legajo del empleado
+     */
+    private void recalcularProyectosDe(int legajo) {
+        Set<Integer> afectados = proyectosPorEmpleado.get(legajo);
+        if (afectados == null) {
+            return;
+        }
+        // Los números pueden ser de proyectos ya archivados o de tareas reasignadas a otro empleado
+        for (Iterator<Integer> it = afectados.iterator(); it.hasNext(); ) {
+            Proyecto proyecto = proyectos.get(it.next());
+            if (proyecto == null) {
+                it.remove();
+                continue;
+            }
+            long costoAnterior = proyecto.getCostoCentavos();
+            proyecto.actualizarCostoTotal();
+            if (proyecto.getCostoCentavos() != costoAnterior) {
+                registrarCambio(proyecto);
+                eventos.publicar(TipoEvento.COSTO_RECALCULADO, proyecto.getNumero(), legajo, null,
+                        Dinero.aDouble(costoAnterior) + " -> " + Dinero.aDouble(proyecto.getCostoCentavos()));
+                registrarEnLineaDeTiempo(proyecto, TipoEvento.COSTO_RECALCULADO, null, legajo, 0);
+            }
+        }
+    }
+
     @Override
     public int consultarCantidadRetrasosEmpleado(Integer legajo) {
         IEmpleado empleado = empleados.get(legajo);
@@ -442,36 +1494,71 @@ public class HomeSolution implements IHomeSolution {
         return empleado.getCantidadRetrasos();
     }
 
+    /**
+     * Reporte del estado de todo el sistema.
+     * El bloque de cada proyecto se guarda en el proyecto junto con su versión,
+     * así solo se vuelven a generar los bloques de los proyectos que cambiaron.
+     * No se usa un cache acotado: el reporte recorre todos los proyectos en
+     * orden, y con más proyectos que capacidad un LRU descartaría cada bloque
+     * justo antes de volver a necesitarlo.
+     */
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("HomeSolution - Estado del Sistema\n");
         sb.append("===================================\n\n");
 
-        for (Proyecto proyecto : proyectos.values()) {
-            sb.append("Proyecto #").append(proyecto.getNumero()).append("\n");
-            sb.append("Domicilio: ").append(proyecto.getDomicilio()).append("\n");
-            sb.append("Cliente: ").append(proyecto.getCliente()).append("\n");
-            sb.append("Estado: ").append(proyecto.getEstado()).append("\n");
-            sb.append("Tareas:\n");
-
-            for (Tarea tarea : proyecto.getTareas()) {
-                // Como se especifica, toString de Tarea solo debe devolver el título
-                sb.append("- ").append(tarea.toString()).append("\n");
+        for (Integer numero : numerosProyectos) {
+            Proyecto proyecto = proyectos.get(numero);
+            if (proyecto != null) {
+                sb.append(proyecto.getBloqueReporte(() -> bloqueReporte(
+                        numero, proyecto.getDomicilio(), proyecto.getCliente(), proyecto.getEstado(),
+                        proyecto.getTareas(), proyecto.getCostoCalculado(),
+                        proyecto.getTareas().stream().anyMatch(t -> t.getDiasRetraso() > 0))));
+            } else {
+                ProyectoArchivado archivado = archivados.get(numero);
+                sb.append(archivado.getBloqueReporte(() -> bloqueReporte(
+                        numero, archivado.getDomicilio(), archivado.getCliente(), archivado.getEstado(),
+                        Arrays.asList(archivado.getTitulosTareas()), archivado.getCostoCalculado(),
+                        archivado.tuvoRetrasos())));
             }
+        }
+
+        return sb.toString();
+    }
 
-            sb.append("Costo final: $").append(String.format("%.2f", proyecto.getCostoCalculado())).append("\n");
-            sb.append("Estado: ").append(proyecto.getEstado()).append("\n");
-            sb.append("Tuvo retrasos: ").append(proyecto.getTareas().stream()
-                    .anyMatch(t -> t.getDiasRetraso() > 0) ? "Sí" : "No").append("\n");
-            sb.append("-----------------------------------\n\n");
+    /**
+     * Bloque del reporte de un proyecto, en curso o archivado.
+     *
+     * @param tareas Las tareas del proyecto; de cada una se muestra su toString (el título)
+     */
+    private static String bloqueReporte(int numero, String domicilio, String cliente, String estado,
+            List<?> tareas, double costo, boolean tuvoRetrasos) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Proyecto #").append(numero).append("\n");
+        sb.append("Domicilio: ").append(domicilio).append("\n");
+        sb.append("Cliente: ").append(cliente).append("\n");
+        sb.append("Estado: ").append(estado).append("\n");
+        sb.append("Tareas:\n");
+
+        for (Object tarea : tareas) {
+            // Como se especifica, toString de Tarea solo debe devolver el título
+            sb.append("- ").append(tarea).append("\n");
         }
 
+        sb.append("Costo final: $").append(String.format("%.2f", costo)).append("\n");
+        sb.append("Estado: ").append(estado).append("\n");
+        sb.append("Tuvo retrasos: ").append(tuvoRetrasos ? "Sí" : "No").append("\n");
+        sb.append("-----------------------------------\n\n");
         return sb.toString();
     }
 
     @Override
     public Object[] tareasProyectoNoAsignadas(Integer numero) {
+        ProyectoArchivado archivado = archivados.get(numero);
+        if (archivado != null) {
+            return archivado.getTitulosTareasNoAsignadas();
+        }
         Proyecto proyecto = proyectos.get(numero);
         if (proyecto == null) {
             return new Object[0];
@@ -484,15 +1571,14 @@ public class HomeSolution implements IHomeSolution {
 
     @Override
     public void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception {
+        if (archivados.containsKey(numero)) {
+            throw new Exception("No se pueden asignar tareas en un proyecto finalizado");
+        }
         Proyecto proyecto = proyectos.get(numero);
         if (proyecto == null) {
             throw new IllegalArgumentException("Proyecto no encontrado");
         }
 
-        if (proyecto.getEstado().equals(Estado.finalizado)) {
-            throw new Exception("No se pueden asignar tareas en un proyecto finalizado");
-        }
-
         // Buscar la tarea
         Tarea tareaEncontrada = null;
         for (Tarea tarea : proyecto.getTareas()) {
@@ -511,39 +1597,29 @@ public class HomeSolution implements IHomeSolution {
         }
 
         // Buscar el empleado con menos retrasos
-        IEmpleado mejorEmpleado = null;
-        int menorRetrasos = Integer.MAX_VALUE;
-
-        for (IEmpleado empleado : empleados.values()) {
-            if (empleado.estaDisponible() && empleado.getCantidadRetrasos() < menorRetrasos) {
-                mejorEmpleado = empleado;
-                menorRetrasos = empleado.getCantidadRetrasos();
-            }
-        }
+        IEmpleado mejorEmpleado = menosRetrasos.elegir(tareaEncontrada, libreParaTarea(proyecto, tareaEncontrada));
 
         if (mejorEmpleado == null) {
             proyecto.setEstado(Estado.pendiente);
+            registrarCambio(proyecto);
+            espera.encolar(numero, titulo, proyecto.getDiaInicio(), tareaEncontrada.getCategoriaRequerida());
             throw new Exception("No hay empleados disponibles");
         }
 
-        tareaEncontrada.setEmpleadoAsignado(mejorEmpleado);
-        mejorEmpleado.marcarComoAsignado();
-        proyecto.registrarEmpleadoEnTarea(tareaEncontrada, mejorEmpleado);
-        proyecto.actualizarEstado();
+        asignar(proyecto, tareaEncontrada, mejorEmpleado);
     }
 
     @Override
     public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias)
             throws IllegalArgumentException {
+        if (archivados.containsKey(numero)) {
+            throw new IllegalArgumentException("No se pueden agregar tareas a un proyecto finalizado");
+        }
         Proyecto proyecto = proyectos.get(numero);
         if (proyecto == null) {
             throw new IllegalArgumentException("Proyecto no encontrado");
         }
 
-        if (proyecto.getEstado().equals(Estado.finalizado)) {
-            throw new IllegalArgumentException("No se pueden agregar tareas a un proyecto finalizado");
-        }
-
         if (titulo == null || titulo.trim().isEmpty()) {
             throw new IllegalArgumentException("El título no puede estar vacío");
         }
@@ -556,9 +1632,327 @@ public class HomeSolution implements IHomeSolution {
             throw new IllegalArgumentException("Los días deben ser un número positivo");
         }
 
+        String estadoAnterior = proyecto.getEstado();
         Tarea nuevaTarea = new Tarea(titulo, descripcion, dias);
         proyecto.agregarTarea(nuevaTarea);
         proyecto.actualizarEstado();
+        registrarCambio(proyecto);
+        eventos.publicar(TipoEvento.TAREA_AGREGADA, numero, 0, titulo, String.valueOf(dias));
+        registrarEnLineaDeTiempo(proyecto, TipoEvento.TAREA_AGREGADA, titulo, 0, dias);
+        indiceBusqueda.agregarTarea(numero, titulo, descripcion);
+        publicarCambioEstado(proyecto, estadoAnterior);
+    }
+
+    /**
+     * Indica que una tarea de un proyecto no puede empezar hasta que termine otra.
+     *
+     * @param numero Número del proyecto
+     * @param tituloAnterior Título de la tarea que debe terminar primero
+     * @param tituloPosterior Título de la tarea que depende de ella
+     * @throws IllegalArgumentException si el proyecto o las tareas no existen,
+     *         el proyecto está finalizado o la dependencia genera un ciclo
+     */
+    public void agregarDependenciaEntreTareas(Integer numero, String tituloAnterior, String tituloPosterior) {
+        if (archivados.containsKey(numero)) {
+            throw new IllegalArgumentException("No se pueden agregar dependencias a un proyecto finalizado");
+        }
+        Proyecto proyecto = proyectos.get(numero);
+        if (proyecto == null) {
+            throw new IllegalArgumentException("Proyecto no encontrado");
+        }
+        proyecto.agregarDependencia(buscarTarea(proyecto, tituloAnterior), buscarTarea(proyecto, tituloPosterior));
+        registrarCambio(proyecto);
+        eventos.publicar(TipoEvento.DEPENDENCIA_AGREGADA, numero, 0, tituloPosterior, tituloAnterior);
+        registrarEnLineaDeTiempo(proyecto, TipoEvento.DEPENDENCIA_AGREGADA, tituloPosterior, 0, 0);
+    }
+
+    /**
+     * Consulta el camino crítico de un proyecto no finalizado: las tareas que,
+     * si se demoran, demoran el proyecto.
+     *
+     * @param numero Número del proyecto
+     * @return Títulos de las tareas críticas, ordenadas por inicio temprano
+     * @throws IllegalArgumentException si el proyecto no existe o está finalizado
+     */
+    public List<String> consultarRutaCritica(Integer numero) {
+        Proyecto proyecto = proyectos.get(numero);
+        if (proyecto == null) {
+            throw new IllegalArgumentException("Proyecto no encontrado");
+        }
+        List<String> titulos = new ArrayList<>();
+        for (Tarea tarea : proyecto.getPlanificacion().getRutaCritica()) {
+            titulos.add(tarea.getTitulo());
+        }
+        return titulos;
+    }
+
+    /**
+     * Reserva a un empleado para una tarea en el primer rango de días libre y
+     * lo deja como responsable de la tarea.
+     * La tarea empieza, como pronto, en el inicio temprano que le da la
+     * planificación del proyecto (y nunca antes de hoy) y ocupa tantos días
+     * como su duración más sus retrasos, redondeada hacia arriba. Entre los
+     * empleados que cumplen la categoría requerida se elige el que puede
+     * empezar antes; a igual fecha, el de menor legajo.
+     *
+     * Permite comprometer a un empleado para la semana próxima aunque hoy esté
+     * asignado a otra tarea: la reserva no se superpone con las suyas. El
+     * empleado queda asignado hasta terminar todas sus tareas.
+     *
+     * @param numero Número del proyecto
+     * @param titulo Título de la tarea
+     * @return La reserva realizada
+     * @throws IllegalArgumentException si el proyecto o la tarea no existen, el
+     *         proyecto está finalizado o la tarea ya está terminada o tiene responsable
+     * @throws Exception si no hay empleados que cumplan la categoría requerida
+     */
+    public Reserva reservarTarea(Integer numero, String titulo) throws Exception {
+        if (archivados.containsKey(numero)) {
+            throw new IllegalArgumentException("No se pueden reservar tareas de un proyecto finalizado");
+        }
+        Proyecto proyecto = proyectos.get(numero);
+        if (proyecto == null) {
+            throw new IllegalArgumentException("Proyecto no encontrado");
+        }
+        Tarea tarea = buscarTarea(proyecto, titulo);
+        if (tarea.isTerminada()) {
+            throw new IllegalArgumentException("La tarea ya está finalizada");
+        }
+        if (tarea.tieneEmpleadoAsignado()) {
+            throw new IllegalArgumentException("La tarea ya tiene un empleado asignado");
+        }
+
+        LocalDate desde = inicioParaTarea(proyecto, tarea);
+        CalendarioLaboral calendario = proyecto.getCalendario();
+        int dias = diasDeTarea(tarea);
+
+        IEmpleado elegido = null;
+        LocalDate mejorFecha = null;
+        for (IEmpleado empleado : empleados.values()) {
+            if (!tarea.admiteEmpleado(empleado)) {
+                continue;
+            }
+            LocalDate fecha = calendarioDe(empleado.getLegajo()).primerDiaLibre(desde, dias, calendario);
+            if (mejorFecha == null || fecha.isBefore(mejorFecha)
+                    || (fecha.equals(mejorFecha) && empleado.getLegajo() < elegido.getLegajo())) {
+                elegido = empleado;
+                mejorFecha = fecha;
+            }
+        }
+        if (elegido == null) {
+            throw new Exception("No hay empleados disponibles");
+        }
+
+        Reserva reserva = new Reserva(elegido.getLegajo(), numero, titulo, mejorFecha,
+                calendario.sumarDiasHabiles(mejorFecha, dias));
+        asignar(proyecto, tarea, elegido, reserva);
+        eventos.publicar(TipoEvento.TAREA_RESERVADA, numero, elegido.getLegajo(), titulo,
+                reserva.getDesde() + " " + reserva.getHasta());
+        return reserva;
+    }
+
+    /**
+     * Cancela la reserva de una tarea. Como la reserva es la que tiene la tarea
+     * por tener responsable, la tarea queda sin responsable y en espera; el
+     * empleado queda libre si no tiene otras tareas.
+     *
+     * @param numero Número del proyecto
+     * @param titulo Título de la tarea
+     * @return true si la tarea tenía una reserva
+     */
+    public boolean cancelarReserva(Integer numero, String titulo) {
+        Reserva reserva = liberarReserva(numero, titulo);
+        if (reserva == null) {
+            return false;
+        }
+        Proyecto proyecto = proyectos.get(numero);
+        Tarea tarea = buscarTarea(proyecto, titulo);
+        IEmpleado empleado = tarea.getEmpleadoAsignado();
+        String estadoAnterior = proyecto.getEstado();
+        tarea.setEmpleadoAsignado(null);
+        actualizarDisponibilidad(empleado);
+        ranking.sumar(CriterioRanking.DIAS_ASIGNADOS, empleado.getLegajo(), -tarea.getDuracionEstimada());
+        notificarDesasignacion(empleado, tarea);
+        proyecto.actualizarCostoTotal();
+        proyecto.actualizarEstado();
+        registrarCambio(proyecto);
+        registrarCambio(empleado);
+        eventos.publicar(TipoEvento.RESERVA_CANCELADA, numero, reserva.getLegajo(), titulo, null);
+        registrarEnLineaDeTiempo(proyecto, TipoEvento.RESERVA_CANCELADA, titulo, reserva.getLegajo(), 0);
+        publicarCambioEstado(proyecto, estadoAnterior);
+        espera.encolar(numero, titulo, proyecto.getDiaInicio(), tarea.getCategoriaRequerida());
+        atenderEspera(empleado);
+        return true;
+    }
+
+    /**
+     * @param legajo Legajo del empleado
+     * @return Las reservas del empleado ordenadas por fecha
+     * @throws IllegalArgumentException si el empleado no existe
+     */
+    public List<Reserva> consultarCalendario(int legajo) {
+        if (!empleados.containsKey(legajo)) {
+            throw new IllegalArgumentException("Empleado no encontrado");
+        }
+        CalendarioEmpleado calendario = calendarios.get(legajo);
+        return calendario == null ? new ArrayList<>() : calendario.getReservas();
+    }
+
+    /**
+     * @return Las tareas que esperan un empleado, en el orden en que se asignarán
+     */
+    public List<TareaEnEspera> getTareasEnEspera() {
+        return espera.getTareas();
+    }
+
+    /**
+     * Cambia el orden en que se asignan las tareas en espera.
+     * Por defecto es ColaEspera.POR_FECHA_INICIO.
+     *
+     * @param prioridad El nuevo orden (la menor se asigna primero)
+     * @throws IllegalArgumentException si la prioridad es nula
+     */
+    public void configurarPrioridadEspera(Comparator<TareaEnEspera> prioridad) {
+        espera.cambiarPrioridad(prioridad);
+    }
+
+    /**
+     * Asigna al empleado que acaba de quedar libre la siguiente tarea en espera
+     * que pueda hacer. Solo se miran las colas de las categorías que el
+     * empleado cubre. Las entradas de tareas que ya no pueden asignarse
+     * (proyecto finalizado, tarea asignada o terminada) se descartan; las que
+     * caen en fechas en que el empleado ya tiene una reserva vuelven a la cola.
+     * Después de MAXIMO_SALTEADAS_POR_LIBERACION tareas que no puede tomar se
+     * deja de buscar, para no vaciar y rearmar toda la cola en cada liberación.
+     *
+     * @param empleado El empleado liberado
+     */
+    private void atenderEspera(IEmpleado empleado) {
+        Categoria categoria = empleado instanceof EmpleadoPlanta ? ((EmpleadoPlanta) empleado).getCategoria() : null;
+        List<TareaEnEspera> salteadas = new ArrayList<>();
+        while (empleado.estaDisponible()) {
+            TareaEnEspera siguiente = espera.siguientePara(categoria);
+            if (siguiente == null) {
+                break;
+            }
+            Proyecto proyecto = proyectos.get(siguiente.getNumeroProyecto());
+            if (proyecto == null) {
+                continue;
+            }
+            Tarea tarea = proyecto.getTarea(siguiente.getTitulo());
+            if (tarea == null || tarea.tieneEmpleadoAsignado() || tarea.isTerminada()) {
+                continue;
+            }
+            if (tarea.admiteEmpleado(empleado) && libreParaTarea(proyecto, tarea).test(empleado)) {
+                asignar(proyecto, tarea, empleado);
+            } else {
+                salteadas.add(siguiente);
+                if (salteadas.size() == MAXIMO_SALTEADAS_POR_LIBERACION) {
+                    break;
+                }
+            }
+        }
+        for (TareaEnEspera tarea : salteadas) {
+            espera.devolver(tarea);
+        }
+    }
+
+    private CalendarioEmpleado calendarioDe(int legajo) {
+        return calendarios.computeIfAbsent(legajo, CalendarioEmpleado::new);
+    }
+
+    /**
+     * @return El primer día que ocuparía la tarea si se asigna ahora: su inicio
+     *         temprano, nunca antes de hoy, ajustado al siguiente día hábil
+     */
+    private LocalDate inicioParaTarea(Proyecto proyecto, Tarea tarea) {
+        long desde = Math.max(LocalDate.now(reloj).toEpochDay(), proyecto.getDiaInicioTarea(tarea));
+        return LocalDate.ofEpochDay(proyecto.getCalendario().primerDiaHabil(desde));
+    }
+
+    /**
+     * @return Días hábiles que ocupa la tarea: su duración más sus retrasos, redondeada hacia arriba
+     */
+    private static int diasDeTarea(Tarea tarea) {
+        return (int) Math.ceil(tarea.getDuracionEstimada() + tarea.getDiasRetraso());
+    }
+
+    /**
+     * @return La reserva que ocuparía la tarea si se asigna ahora al empleado
+     */
+    private Reserva reservaPara(Proyecto proyecto, Tarea tarea, int legajo) {
+        LocalDate desde = inicioParaTarea(proyecto, tarea);
+        return new Reserva(legajo, proyecto.getNumero(), tarea.getTitulo(), desde,
+                proyecto.getCalendario().sumarDiasHabiles(desde, diasDeTarea(tarea)));
+    }
+
+    /**
+     * @return Filtro de los empleados que no tienen reservas en las fechas que
+     *         ocuparía la tarea si se asigna ahora
+     */
+    private Predicate<IEmpleado> libreParaTarea(Proyecto proyecto, Tarea tarea) {
+        LocalDate desde = inicioParaTarea(proyecto, tarea);
+        int dias = (int) (proyecto.getCalendario().sumarDiasHabiles(desde, diasDeTarea(tarea)).toEpochDay()
+                - desde.toEpochDay());
+        return empleado -> {
+            CalendarioEmpleado calendario = calendarios.get(empleado.getLegajo());
+            return calendario == null || calendario.estaLibre(desde, dias);
+        };
+    }
+
+    private void reservar(Reserva reserva) {
+        calendarioDe(reserva.getLegajo()).reservar(reserva);
+        reservasPorTarea.computeIfAbsent(reserva.getNumeroProyecto(), n -> new HashMap<>())
+                .put(reserva.getTitulo(), reserva);
+    }
+
+    /**
+     * Quita la reserva de una tarea de su registro y del calendario del empleado.
+     *
+     * @return La reserva liberada, o null si la tarea no tenía
+     */
+    private Reserva liberarReserva(int numero, String titulo) {
+        Map<String, Reserva> reservas = reservasPorTarea.get(numero);
+        Reserva reserva = reservas == null ? null : reservas.remove(titulo);
+        if (reserva == null) {
+            return null;
+        }
+        if (reservas.isEmpty()) {
+            reservasPorTarea.remove(numero);
+        }
+        calendarios.get(reserva.getLegajo()).cancelar(reserva);
+        return reserva;
+    }
+
+    /**
+     * Deja al empleado asignado si todavía es responsable de alguna tarea sin
+     * terminar (por ejemplo, una reservada para más adelante) y disponible si no.
+     */
+    private void actualizarDisponibilidad(IEmpleado empleado) {
+        Set<Integer> numeros = proyectosPorEmpleado.get(empleado.getLegajo());
+        if (numeros != null) {
+            for (Integer numero : numeros) {
+                Proyecto proyecto = proyectos.get(numero);
+                if (proyecto == null) {
+                    continue;
+                }
+                for (Tarea tarea : proyecto.getTareas()) {
+                    if (tarea.getEmpleadoAsignado() == empleado && !tarea.isTerminada()) {
+                        empleado.marcarComoAsignado();
+                        return;
+                    }
+                }
+            }
+        }
+        empleado.marcarComoDisponible();
+    }
+
+    private static Tarea buscarTarea(Proyecto proyecto, String titulo) {
+        Tarea tarea = proyecto.getTarea(titulo);
+        if (tarea == null) {
+            throw new IllegalArgumentException("Tarea no encontrada");
+        }
+        return tarea;
     }
 
     @Override
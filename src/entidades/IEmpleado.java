@@ -1,5 +1,7 @@
 package entidades;
 
+import java.time.LocalDate;
+
 /**
  * Interfaz que define el comportamiento común de todos los empleados.
  * 
@@ -39,6 +41,46 @@ public interface IEmpleado {
 
     double calcularCosto(double dias);
 
+    /**
+     * Calcula el costo suponiendo que el empleado tiene (o no) retrasos,
+     * sin importar los que tenga registrados. Se usa para simulaciones.
+     *
+     * @param dias La cantidad de días trabajados
+     * @param conRetrasos true para calcular como si tuviera retrasos
+     * @return El costo calculado
+     */
+    double calcularCosto(double dias, boolean conRetrasos);
+
+    /**
+     * Igual que calcularCosto(dias, conRetrasos), pero en centavos exactos.
+     * Es el cálculo que usan los costos de los proyectos.
+     *
+     * @param dias La cantidad de días trabajados
+     * @param conRetrasos true para calcular como si tuviera retrasos
+     * @return El costo en centavos
+     */
+    long calcularCostoCentavos(double dias, boolean conRetrasos);
+
+    /**
+     * Calcula el costo en centavos con la tarifa vigente en la fecha indicada.
+     *
+     * @param dias La cantidad de días trabajados
+     * @param conRetrasos true para calcular como si tuviera retrasos
+     * @param dia Fecha de la que se toma la tarifa (el inicio de la tarea), como LocalDate.toEpochDay()
+     * @return El costo en centavos
+     */
+    long calcularCostoCentavos(double dias, boolean conRetrasos, long dia);
+
+    /**
+     * Registra una nueva tarifa (valor por hora o por día según el tipo de
+     * empleado) vigente a partir de una fecha.
+     *
+     * @param desde Primer día de vigencia
+     * @param valor La nueva tarifa
+     * @throws IllegalArgumentException si la fecha es nula o el valor no es positivo
+     */
+    void actualizarTarifa(LocalDate desde, double valor);
+
     boolean tuvoRetrasos();
 
     int getCantidadRetrasos();
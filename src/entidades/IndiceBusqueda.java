@@ -0,0 +1,134 @@
+package entidades;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Índice de búsqueda de proyectos por texto.
+ * Indexa cliente, domicilio y título y descripción de las tareas.
+ *
+ * Funcionamiento:
+ * - El texto se normaliza: minúsculas y sin acentos ("Martín" -> "martin")
+ * - Se separa en palabras (cualquier caracter no alfanumérico separa)
+ * - Cada palabra de la consulta se busca como prefijo ("mar" encuentra "martin")
+ * - Un proyecto aparece en el resultado si coincide con todas las palabras
+ * - El puntaje depende del campo: cliente y domicilio pesan más que las tareas
+ *
+ * Estructuras de datos:
+ * - TreeMap<String, Map<Integer, Integer>>: palabra -> (proyecto -> puntaje),
+ *   ordenado para encontrar todas las palabras con un prefijo en O(log n)
+ */
+public class IndiceBusqueda {
+    private static final int PESO_CLIENTE = 3;
+    private static final int PESO_DOMICILIO = 3;
+    private static final int PESO_TITULO_TAREA = 2;
+    private static final int PESO_DESCRIPCION_TAREA = 1;
+
+    private final TreeMap<String, Map<Integer, Integer>> palabras;
+
+    public IndiceBusqueda() {
+        this.palabras = new TreeMap<>();
+    }
+
+    /**
+     * Indexa cliente y domicilio de un proyecto.
+     */
+    public void agregarProyecto(int numero, String cliente, String domicilio) {
+        agregarTexto(numero, cliente, PESO_CLIENTE);
+        agregarTexto(numero, domicilio, PESO_DOMICILIO);
+    }
+
+    /**
+     * Indexa título y descripción de una tarea del proyecto.
+     */
+    public void agregarTarea(int numero, String titulo, String descripcion) {
+        agregarTexto(numero, titulo, PESO_TITULO_TAREA);
+        agregarTexto(numero, descripcion, PESO_DESCRIPCION_TAREA);
+    }
+
+    private void agregarTexto(int numero, String texto, int peso) {
+        for (String palabra : separarPalabras(texto)) {
+            palabras.computeIfAbsent(palabra, k -> new HashMap<>()).merge(numero, peso, Integer::sum);
+        }
+    }
+
+    /**
+     * Busca proyectos que coincidan con todas las palabras de la consulta.
+     *
+     * @param consulta Texto a buscar, cada palabra se toma como prefijo
+     * @param limite Cantidad máxima de resultados
+     * @return Números de proyecto ordenados por puntaje descendente (y por número ante empate)
+     * @throws IllegalArgumentException si el límite es <= 0
+     */
+    public List<Integer> buscar(String consulta, int limite) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("El límite debe ser mayor que 0");
+        }
+        List<String> prefijos = separarPalabras(consulta);
+        if (prefijos.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, Integer> puntajes = null;
+        for (String prefijo : prefijos) {
+            Map<Integer, Integer> coincidencias = new HashMap<>();
+            for (Map<Integer, Integer> proyectos : palabras.subMap(prefijo, prefijo + Character.MAX_VALUE)
+                    .values()) {
+                for (Map.Entry<Integer, Integer> entrada : proyectos.entrySet()) {
+                    if (puntajes == null || puntajes.containsKey(entrada.getKey())) {
+                        coincidencias.merge(entrada.getKey(), entrada.getValue(), Integer::sum);
+                    }
+                }
+            }
+            if (puntajes != null) {
+                for (Map.Entry<Integer, Integer> entrada : coincidencias.entrySet()) {
+                    entrada.setValue(entrada.getValue() + puntajes.get(entrada.getKey()));
+                }
+            }
+            puntajes = coincidencias;
+            if (puntajes.isEmpty()) {
+                return new ArrayList<>();
+            }
+        }
+
+        // Selección de los mejores 'limite' resultados con un heap acotado
+        PriorityQueue<Map.Entry<Integer, Integer>> mejores = new PriorityQueue<>(
+                (a, b) -> a.getValue().equals(b.getValue()) ? Integer.compare(b.getKey(), a.getKey())
+                        : Integer.compare(a.getValue(), b.getValue()));
+        for (Map.Entry<Integer, Integer> entrada : puntajes.entrySet()) {
+            mejores.add(entrada);
+            if (mejores.size() > limite) {
+                mejores.poll();
+            }
+        }
+        List<Integer> resultado = new ArrayList<>();
+        while (!mejores.isEmpty()) {
+            resultado.add(0, mejores.poll().getKey());
+        }
+        return resultado;
+    }
+
+    /**
+     * Normaliza un texto y lo separa en palabras.
+     */
+    static List<String> separarPalabras(String texto) {
+        List<String> resultado = new ArrayList<>();
+        if (texto == null) {
+            return resultado;
+        }
+        String normalizado = Normalizer.normalize(texto, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase();
+        for (String palabra : normalizado.split("[^\\p{Alnum}]+")) {
+            if (!palabra.isEmpty()) {
+                resultado.add(palabra);
+            }
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,137 @@
+package entidades;
+
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Pools de empleados disponibles por categoría.
+ * Los empleados de planta están en el pool de su categoría y los contratados,
+ * que no tienen categoría, en un pool aparte. Dentro de cada pool se ordenan
+ * por legajo, así que el primer disponible de un pool se obtiene en O(log n).
+ *
+ * Estructuras de datos:
+ * - EnumMap<Categoria, TreeMap<Integer, IEmpleado>>: disponibles de planta por categoría
+ * - TreeMap<Integer, IEmpleado>: contratados disponibles
+ * - IdentityHashMap<IEmpleado, TreeMap>: pool en el que está cada empleado
+ *
+ * Invariantes:
+ * - Un empleado está en un pool si y solo si estaba disponible en su última actualización
+ */
+public class IndiceCategorias implements EstrategiaAsignacion {
+    private final Map<Categoria, TreeMap<Integer, IEmpleado>> planta;
+    private final TreeMap<Integer, IEmpleado> contratados;
+    private final Map<IEmpleado, TreeMap<Integer, IEmpleado>> ubicacion;
+
+    public IndiceCategorias() {
+        this.planta = new EnumMap<>(Categoria.class);
+        for (Categoria categoria : Categoria.values()) {
+            planta.put(categoria, new TreeMap<>());
+        }
+        this.contratados = new TreeMap<>();
+        this.ubicacion = new IdentityHashMap<>();
+    }
+
+    /**
+     * Actualiza el pool de un empleado según su disponibilidad actual.
+     * Debe llamarse cada vez que cambia.
+     *
+     * @param empleado El empleado modificado
+     */
+    @Override
+    public void actualizar(IEmpleado empleado) {
+        quitar(empleado);
+        if (!empleado.estaDisponible()) {
+            return;
+        }
+        TreeMap<Integer, IEmpleado> pool = empleado instanceof EmpleadoPlanta
+                ? planta.get(((EmpleadoPlanta) empleado).getCategoria())
+                : contratados;
+        pool.put(empleado.getLegajo(), empleado);
+        ubicacion.put(empleado, pool);
+    }
+
+    /**
+     * Quita un empleado del índice.
+     *
+     * @param empleado El empleado a quitar
+     */
+    @Override
+    public void quitar(IEmpleado empleado) {
+        TreeMap<Integer, IEmpleado> pool = ubicacion.remove(empleado);
+        if (pool != null) {
+            pool.remove(empleado.getLegajo(), empleado);
+        }
+    }
+
+    /**
+     * Elige un empleado para la tarea aceptando categorías superiores a la requerida.
+     */
+    @Override
+    public IEmpleado elegir(Tarea tarea) {
+        return buscar(tarea.getCategoriaRequerida(), true);
+    }
+
+    @Override
+    public IEmpleado elegir(Tarea tarea, Predicate<IEmpleado> filtro) {
+        return buscar(tarea.getCategoriaRequerida(), true, filtro);
+    }
+
+    /**
+     * Busca un empleado disponible para una tarea.
+     *
+     * Si la tarea requiere una categoría, se busca en el pool de esa categoría
+     * y, si se permite, en los de las categorías superiores, de menor a mayor.
+     * Si no requiere ninguna, se prueban primero los contratados y después las
+     * categorías de planta de menor a mayor, para no ocupar a los expertos en
+     * tareas que no los necesitan.
+     *
+     * @param requerida La categoría requerida, o null si no se requiere ninguna
+     * @param permitirSuperior Si se aceptan empleados de una categoría superior
+     * @return El primer empleado disponible que cumple, o null si no hay ninguno
+     */
+    public IEmpleado buscar(Categoria requerida, boolean permitirSuperior) {
+        return buscar(requerida, permitirSuperior, empleado -> true);
+    }
+
+    /**
+     * Igual que buscar(requerida, permitirSuperior), pero saltea a los
+     * empleados que no cumplen el filtro.
+     *
+     * @param filtro Condición adicional que debe cumplir el empleado
+     */
+    public IEmpleado buscar(Categoria requerida, boolean permitirSuperior, Predicate<IEmpleado> filtro) {
+        if (requerida == null) {
+            IEmpleado contratado = primero(contratados, filtro);
+            if (contratado != null) {
+                return contratado;
+            }
+            requerida = Categoria.INICIAL;
+            permitirSuperior = true;
+        }
+        for (Categoria categoria : Categoria.values()) {
+            if (!categoria.cubre(requerida)) {
+                continue;
+            }
+            IEmpleado empleado = primero(planta.get(categoria), filtro);
+            if (empleado != null) {
+                return empleado;
+            }
+            if (!permitirSuperior) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static IEmpleado primero(TreeMap<Integer, IEmpleado> pool, Predicate<IEmpleado> filtro) {
+        for (IEmpleado empleado : pool.values()) {
+            if (filtro.test(empleado)) {
+                return empleado;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,219 @@
+package entidades;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Índice de empleados disponibles por costo, para encontrar en O(log n) el
+ * empleado disponible más económico para una tarea de cierta duración.
+ *
+ * Para una duración fija, el costo de cada tipo de empleado crece con su tarifa:
+ * - EmpleadoContratado: valorHora * horas(d), con horas(d) igual para todos
+ * - EmpleadoPlanta: valorDiaEfectivo * ceil(d), donde el efectivo incluye el bonus
+ * Por eso alcanza con un pool ordenado por tarifa para cada modelo de cobro:
+ * el más barato de cada pool es el primero, y se comparan solo esos dos.
+ *
+ * Las tarifas tienen fechas de vigencia, así que el orden depende del día en
+ * que empieza la tarea. Los pools están ordenados por la tarifa vigente en un
+ * día de referencia (al principio, la última registrada). Al elegir para otro
+ * día solo se reubican los empleados con más de una tarifa registrada, que son
+ * los únicos cuya tarifa puede cambiar de un día a otro.
+ *
+ * Estructuras de datos:
+ * - TreeSet<Entrada> por modelo de cobro, ordenado por (tarifa, legajo)
+ * - IdentityHashMap<IEmpleado, Entrada>: entrada actual de cada empleado,
+ *   para poder quitarla cuando cambia su tarifa o su disponibilidad
+ * - Set<IEmpleado>: los empleados del índice con más de una tarifa
+ *
+ * Invariantes:
+ * - Un empleado está en un pool si y solo si estaba disponible en su última actualización
+ * - La tarifa de cada entrada es la vigente en el día de referencia
+ */
+public class IndiceCostoEmpleados implements EstrategiaAsignacion {
+    private static final Comparator<Entrada> POR_TARIFA = Comparator.comparingLong((Entrada e) -> e.tarifa)
+            .thenComparingInt(e -> e.empleado.getLegajo());
+
+    private final TreeSet<Entrada> contratados;
+    private final TreeSet<Entrada> planta;
+    private final Map<IEmpleado, Entrada> entradas;
+    private final Set<IEmpleado> conVariasTarifas;
+    // Día cuyas tarifas ordenan los pools, como LocalDate.toEpochDay(); Long.MAX_VALUE es la última tarifa
+    private long diaReferencia;
+
+    private static class Entrada {
+        private final IEmpleado empleado;
+        // Costo en centavos de un día completo, con el bonus si corresponde
+        private final long tarifa;
+
+        Entrada(IEmpleado empleado, long tarifa) {
+            this.empleado = empleado;
+            this.tarifa = tarifa;
+        }
+    }
+
+    public IndiceCostoEmpleados() {
+        this.contratados = new TreeSet<>(POR_TARIFA);
+        this.planta = new TreeSet<>(POR_TARIFA);
+        this.entradas = new IdentityHashMap<>();
+        this.conVariasTarifas = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.diaReferencia = Long.MAX_VALUE;
+    }
+
+    /**
+     * Actualiza la posición de un empleado según su disponibilidad y tarifa actuales.
+     * Debe llamarse cada vez que cambian.
+     *
+     * @param empleado El empleado modificado
+     * @throws IllegalArgumentException si el tipo de empleado no es conocido
+     */
+    @Override
+    public void actualizar(IEmpleado empleado) {
+        quitar(empleado);
+        if (!empleado.estaDisponible()) {
+            return;
+        }
+        int cantidadTarifas;
+        if (empleado instanceof EmpleadoContratado) {
+            cantidadTarifas = ((EmpleadoContratado) empleado).cantidadTarifas();
+        } else if (empleado instanceof EmpleadoPlanta) {
+            cantidadTarifas = ((EmpleadoPlanta) empleado).cantidadTarifas();
+        } else {
+            throw new IllegalArgumentException("Tipo de empleado no soportado");
+        }
+        Entrada entrada = new Entrada(empleado, tarifa(empleado, diaReferencia));
+        pool(empleado).add(entrada);
+        entradas.put(empleado, entrada);
+        if (cantidadTarifas > 1) {
+            conVariasTarifas.add(empleado);
+        }
+    }
+
+    /**
+     * Quita un empleado del índice.
+     *
+     * @param empleado El empleado a quitar
+     */
+    @Override
+    public void quitar(IEmpleado empleado) {
+        Entrada anterior = entradas.remove(empleado);
+        if (anterior != null) {
+            pool(empleado).remove(anterior);
+            conVariasTarifas.remove(empleado);
+        }
+    }
+
+    /**
+     * @param dias Duración de la tarea
+     * @return El empleado disponible más económico para esa duración, o null si no hay ninguno
+     */
+    public IEmpleado masEconomico(double dias) {
+        return masEconomico(dias, diaReferencia, empleado -> true);
+    }
+
+    /**
+     * Igual que masEconomico(dias), pero saltea a los empleados que no cumplen el filtro.
+     *
+     * @param filtro Condición adicional que debe cumplir el empleado
+     */
+    public IEmpleado masEconomico(double dias, Predicate<IEmpleado> filtro) {
+        return masEconomico(dias, diaReferencia, filtro);
+    }
+
+    /**
+     * Igual que masEconomico(dias, filtro), con las tarifas vigentes en un día.
+     * Cuesta O(k log n) más si el día cambió desde la última consulta, con k
+     * la cantidad de empleados disponibles con más de una tarifa.
+     *
+     * @param dia Inicio de la tarea, como LocalDate.toEpochDay()
+     */
+    public IEmpleado masEconomico(double dias, long dia, Predicate<IEmpleado> filtro) {
+        fijarDia(dia);
+        IEmpleado contratado = primero(contratados, filtro);
+        IEmpleado dePlanta = primero(planta, filtro);
+        if (contratado == null) {
+            return dePlanta;
+        }
+        if (dePlanta == null) {
+            return contratado;
+        }
+        long costoContratado = contratado.calcularCostoCentavos(dias, contratado.tuvoRetrasos(), dia);
+        long costoPlanta = dePlanta.calcularCostoCentavos(dias, dePlanta.tuvoRetrasos(), dia);
+        if (costoContratado != costoPlanta) {
+            return costoContratado < costoPlanta ? contratado : dePlanta;
+        }
+        return contratado.getLegajo() <= dePlanta.getLegajo() ? contratado : dePlanta;
+    }
+
+    /**
+     * Elige al empleado disponible más económico para la duración de la tarea.
+     * Si la tarea requiere una categoría solo pueden hacerla empleados de
+     * planta, y el primero del pool de planta que la cubra es el más económico.
+     * Sin fecha, se usan las tarifas del día de la última consulta.
+     */
+    @Override
+    public IEmpleado elegir(Tarea tarea) {
+        return elegir(tarea, diaReferencia, empleado -> true);
+    }
+
+    @Override
+    public IEmpleado elegir(Tarea tarea, Predicate<IEmpleado> filtro) {
+        return elegir(tarea, diaReferencia, filtro);
+    }
+
+    /**
+     * Igual que elegir(tarea, filtro), con las tarifas vigentes en un día.
+     *
+     * @param dia Inicio planificado de la tarea, como LocalDate.toEpochDay()
+     */
+    public IEmpleado elegir(Tarea tarea, long dia, Predicate<IEmpleado> filtro) {
+        if (tarea.getCategoriaRequerida() == null) {
+            return masEconomico(tarea.getDuracionEstimada(), dia, filtro);
+        }
+        fijarDia(dia);
+        return primero(planta, empleado -> tarea.admiteEmpleado(empleado) && filtro.test(empleado));
+    }
+
+    /**
+     * Reordena los pools con las tarifas vigentes en otro día. Solo pueden
+     * cambiar de lugar los empleados con más de una tarifa.
+     */
+    private void fijarDia(long dia) {
+        if (dia == diaReferencia) {
+            return;
+        }
+        for (IEmpleado empleado : conVariasTarifas) {
+            Entrada anterior = entradas.get(empleado);
+            long tarifa = tarifa(empleado, dia);
+            if (tarifa != anterior.tarifa) {
+                Entrada nueva = new Entrada(empleado, tarifa);
+                TreeSet<Entrada> pool = pool(empleado);
+                pool.remove(anterior);
+                pool.add(nueva);
+                entradas.put(empleado, nueva);
+            }
+        }
+        diaReferencia = dia;
+    }
+
+    private static long tarifa(IEmpleado empleado, long dia) {
+        return empleado.calcularCostoCentavos(1, empleado.tuvoRetrasos(), dia);
+    }
+
+    private TreeSet<Entrada> pool(IEmpleado empleado) {
+        return empleado instanceof EmpleadoContratado ? contratados : planta;
+    }
+
+    private static IEmpleado primero(TreeSet<Entrada> pool, Predicate<IEmpleado> filtro) {
+        for (Entrada entrada : pool) {
+            if (filtro.test(entrada.empleado)) {
+                return entrada.empleado;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,216 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Índice de proyectos por rango de fechas.
+ * Cada proyecto ocupa el intervalo [fechaInicio, fin], con las fechas expresadas
+ * en días desde la época (LocalDate.toEpochDay()). El fin es la fecha real de
+ * fin si el proyecto la tiene (finalizado, o demorado por retrasos) y la
+ * estimada si no; así un proyecto finalizado antes de lo previsto deja de
+ * figurar en curso desde el día en que terminó.
+ *
+ * Estructuras de datos:
+ * - Árbol de intervalos (treap ordenado por inicio, donde cada nodo guarda el
+ *   fin máximo de su subárbol): permite encontrar los proyectos que se
+ *   superponen con un rango en O(log n + k), siendo k la cantidad de resultados
+ * - TreeSet de (fin, número): proyectos que terminan dentro de un rango
+ * - Map<Integer, int[]>: fechas indexadas de cada proyecto en curso, para poder
+ *   quitarlas cuando cambian; los proyectos archivados no la necesitan (ver congelar)
+ */
+public class IndiceIntervalos {
+    private Nodo raiz;
+    private final TreeSet<Long> porFinReal;
+    private final Map<Integer, int[]> fechasIndexadas;
+    private final Random prioridades;
+
+    private static class Nodo {
+        private final int inicio;
+        private final int numero;
+        private final int fin;
+        private final int prioridad;
+        private int maxFin;
+        private Nodo izquierda;
+        private Nodo derecha;
+
+        Nodo(int inicio, int numero, int fin, int prioridad) {
+            this.inicio = inicio;
+            this.numero = numero;
+            this.fin = fin;
+            this.prioridad = prioridad;
+            this.maxFin = fin;
+        }
+
+        int comparar(int otroInicio, int otroNumero) {
+            return inicio != otroInicio ? Integer.compare(inicio, otroInicio) : Integer.compare(numero, otroNumero);
+        }
+
+        void recalcular() {
+            maxFin = fin;
+            if (izquierda != null && izquierda.maxFin > maxFin) {
+                maxFin = izquierda.maxFin;
+            }
+            if (derecha != null && derecha.maxFin > maxFin) {
+                maxFin = derecha.maxFin;
+            }
+        }
+    }
+
+    public IndiceIntervalos() {
+        this.porFinReal = new TreeSet<>();
+        this.fechasIndexadas = new HashMap<>();
+        this.prioridades = new Random(1);
+    }
+
+    /**
+     * Agrega o actualiza las fechas de un proyecto. O(log n).
+     * Si las fechas no cambiaron desde la última actualización no hace nada.
+     */
+    public void actualizar(Proyecto proyecto) {
+        int numero = proyecto.getNumero();
+        int inicio = proyecto.getDiaInicio();
+        int fin = proyecto.getDiaFin();
+
+        int[] anteriores = fechasIndexadas.get(numero);
+        if (anteriores != null) {
+            if (anteriores[0] == inicio && anteriores[1] == fin) {
+                return;
+            }
+            raiz = quitar(raiz, anteriores[0], numero);
+            porFinReal.remove(clave(anteriores[1], numero));
+        }
+        raiz = insertar(raiz, new Nodo(inicio, numero, fin, prioridades.nextInt()));
+        porFinReal.add(clave(fin, numero));
+        fechasIndexadas.put(numero, new int[] { inicio, fin });
+    }
+
+    /**
+     * Indica que las fechas del proyecto ya no van a cambiar (se archivó): sigue
+     * en el índice, pero se descartan las fechas guardadas para actualizarlo.
+     *
+     * @param numero Número del proyecto
+     */
+    public void congelar(int numero) {
+        fechasIndexadas.remove(numero);
+    }
+
+    private static long clave(int dia, int numero) {
+        return ((long) dia << 32) | (numero & 0xFFFFFFFFL);
+    }
+
+    private Nodo insertar(Nodo nodo, Nodo nuevo) {
+        if (nodo == null) {
+            return nuevo;
+        }
+        if (nodo.comparar(nuevo.inicio, nuevo.numero) > 0) {
+            nodo.izquierda = insertar(nodo.izquierda, nuevo);
+            if (nodo.izquierda.prioridad > nodo.prioridad) {
+                nodo = rotarDerecha(nodo);
+            }
+        } else {
+            nodo.derecha = insertar(nodo.derecha, nuevo);
+            if (nodo.derecha.prioridad > nodo.prioridad) {
+                nodo = rotarIzquierda(nodo);
+            }
+        }
+        nodo.recalcular();
+        return nodo;
+    }
+
+    private Nodo quitar(Nodo nodo, int inicio, int numero) {
+        if (nodo == null) {
+            return null;
+        }
+        int comparacion = nodo.comparar(inicio, numero);
+        if (comparacion > 0) {
+            nodo.izquierda = quitar(nodo.izquierda, inicio, numero);
+        } else if (comparacion < 0) {
+            nodo.derecha = quitar(nodo.derecha, inicio, numero);
+        } else if (nodo.izquierda == null) {
+            return nodo.derecha;
+        } else if (nodo.derecha == null) {
+            return nodo.izquierda;
+        } else if (nodo.izquierda.prioridad > nodo.derecha.prioridad) {
+            nodo = rotarDerecha(nodo);
+            nodo.derecha = quitar(nodo.derecha, inicio, numero);
+        } else {
+            nodo = rotarIzquierda(nodo);
+            nodo.izquierda = quitar(nodo.izquierda, inicio, numero);
+        }
+        nodo.recalcular();
+        return nodo;
+    }
+
+    private static Nodo rotarDerecha(Nodo nodo) {
+        Nodo hijo = nodo.izquierda;
+        nodo.izquierda = hijo.derecha;
+        hijo.derecha = nodo;
+        nodo.recalcular();
+        hijo.recalcular();
+        return hijo;
+    }
+
+    private static Nodo rotarIzquierda(Nodo nodo) {
+        Nodo hijo = nodo.derecha;
+        nodo.derecha = hijo.izquierda;
+        hijo.izquierda = nodo;
+        nodo.recalcular();
+        hijo.recalcular();
+        return hijo;
+    }
+
+    /**
+     * Devuelve los proyectos cuyo intervalo se superpone con [desde, hasta].
+     *
+     * @param desde Primer día del rango (epoch day)
+     * @param hasta Último día del rango (epoch day), inclusive
+     * @return Números de proyecto ordenados por fecha de inicio
+     * @throws IllegalArgumentException si desde > hasta
+     */
+    public List<Integer> superpuestos(int desde, int hasta) {
+        if (desde > hasta) {
+            throw new IllegalArgumentException("El inicio del rango no puede ser posterior al fin");
+        }
+        List<Integer> resultado = new ArrayList<>();
+        buscar(raiz, desde, hasta, resultado);
+        return resultado;
+    }
+
+    private void buscar(Nodo nodo, int desde, int hasta, List<Integer> resultado) {
+        // Si ningún intervalo del subárbol termina después de 'desde', no hay superposición
+        if (nodo == null || nodo.maxFin < desde) {
+            return;
+        }
+        buscar(nodo.izquierda, desde, hasta, resultado);
+        // Los nodos a la derecha empiezan todavía más tarde
+        if (nodo.inicio > hasta) {
+            return;
+        }
+        if (nodo.fin >= desde) {
+            resultado.add(nodo.numero);
+        }
+        buscar(nodo.derecha, desde, hasta, resultado);
+    }
+
+    /**
+     * Devuelve los proyectos cuya fecha real de fin está dentro de [desde, hasta].
+     *
+     * @return Números de proyecto ordenados por fecha real de fin
+     * @throws IllegalArgumentException si desde > hasta
+     */
+    public List<Integer> finalizanEntre(int desde, int hasta) {
+        if (desde > hasta) {
+            throw new IllegalArgumentException("El inicio del rango no puede ser posterior al fin");
+        }
+        List<Integer> resultado = new ArrayList<>();
+        for (Long clave : porFinReal.subSet(clave(desde, 0), true, clave(hasta, -1), true)) {
+            resultado.add((int) clave.longValue());
+        }
+        return resultado;
+    }
+}
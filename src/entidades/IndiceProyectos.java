@@ -0,0 +1,155 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Índices ordenados de proyectos por estado y criterio de orden.
+ * Permiten listar proyectos paginados sin recorrer ni ordenar todo el conjunto:
+ * obtener una página cuesta O(log n + tamaño de página).
+ *
+ * Estructuras de datos:
+ * - Map<String, Map<OrdenProyectos, TreeSet<CursorProyectos>>>: un árbol ordenado
+ *   por cada estado y criterio
+ * - Map<Integer, Entrada>: estado y claves actuales de cada proyecto en curso,
+ *   para poder quitar sus claves viejas cuando cambia. Los proyectos
+ *   archivados ya no cambian y no tienen entrada (ver congelar)
+ * - Map<Integer, String>: domicilio de cada proyecto, para armar las páginas
+ */
+public class IndiceProyectos {
+    private final Map<String, Map<OrdenProyectos, TreeSet<CursorProyectos>>> indices;
+    private final Map<Integer, Entrada> entradas;
+    private final Map<Integer, String> domicilios;
+
+    private static class Entrada {
+        private final String estado;
+        private final Map<OrdenProyectos, CursorProyectos> claves;
+
+        Entrada(String estado) {
+            this.estado = estado;
+            this.claves = new EnumMap<>(OrdenProyectos.class);
+        }
+    }
+
+    public IndiceProyectos() {
+        this.indices = new HashMap<>();
+        this.entradas = new HashMap<>();
+        this.domicilios = new HashMap<>();
+        for (String estado : new String[] { Estado.pendiente, Estado.activo, Estado.finalizado }) {
+            Map<OrdenProyectos, TreeSet<CursorProyectos>> porOrden = new EnumMap<>(OrdenProyectos.class);
+            for (OrdenProyectos orden : OrdenProyectos.values()) {
+                porOrden.put(orden, new TreeSet<>());
+            }
+            indices.put(estado, porOrden);
+        }
+    }
+
+    /**
+     * Agrega o actualiza un proyecto en los índices. O(log n).
+     *
+     * @param proyecto El proyecto con sus datos actuales
+     */
+    public void actualizar(Proyecto proyecto) {
+        quitar(proyecto.getNumero());
+        Entrada entrada = new Entrada(proyecto.getEstado());
+        Map<OrdenProyectos, TreeSet<CursorProyectos>> porOrden = indices.get(entrada.estado);
+        for (OrdenProyectos orden : OrdenProyectos.values()) {
+            CursorProyectos clave = new CursorProyectos(valorDe(proyecto, orden), proyecto.getNumero());
+            entrada.claves.put(orden, clave);
+            porOrden.get(orden).add(clave);
+        }
+        entradas.put(proyecto.getNumero(), entrada);
+        domicilios.put(proyecto.getNumero(), proyecto.getDomicilio());
+    }
+
+    /**
+     * Indica que el proyecto ya no va a cambiar (se archivó): sigue apareciendo
+     * en los listados, pero se descarta lo que solo hacía falta para actualizarlo.
+     *
+     * @param numero Número del proyecto
+     */
+    public void congelar(int numero) {
+        entradas.remove(numero);
+    }
+
+    private void quitar(int numero) {
+        Entrada entrada = entradas.remove(numero);
+        if (entrada == null) {
+            return;
+        }
+        Map<OrdenProyectos, TreeSet<CursorProyectos>> porOrden = indices.get(entrada.estado);
+        for (Map.Entry<OrdenProyectos, CursorProyectos> clave : entrada.claves.entrySet()) {
+            porOrden.get(clave.getKey()).remove(clave.getValue());
+        }
+    }
+
+    private static double valorDe(Proyecto proyecto, OrdenProyectos orden) {
+        switch (orden) {
+            case FECHA_INICIO:
+                return proyecto.getDiaInicio();
+            case FECHA_REAL_FIN:
+                int fin = proyecto.getDiaRealFin();
+                return fin == Proyecto.SIN_FECHA ? Double.MAX_VALUE : fin;
+            case COSTO:
+                return proyecto.getCostoCalculado();
+            default:
+                return proyecto.getNumero();
+        }
+    }
+
+    /**
+     * Devuelve una página del listado de proyectos en un estado.
+     *
+     * @param estado Estado de los proyectos a listar
+     * @param orden Criterio de orden
+     * @param ascendente true para orden ascendente, false para descendente
+     * @param desde Cursor devuelto por la página anterior, o null para la primera
+     * @param tamanio Cantidad máxima de proyectos de la página
+     * @return La página pedida
+     * @throws IllegalArgumentException si el estado es inválido o el tamaño es <= 0
+     */
+    public PaginaProyectos listar(String estado, OrdenProyectos orden, boolean ascendente, CursorProyectos desde,
+            int tamanio) {
+        if (!indices.containsKey(estado)) {
+            throw new IllegalArgumentException("Estado inválido");
+        }
+        if (orden == null) {
+            throw new IllegalArgumentException("El orden no puede ser nulo");
+        }
+        if (tamanio <= 0) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor que 0");
+        }
+        NavigableSet<CursorProyectos> conjunto = indices.get(estado).get(orden);
+        if (!ascendente) {
+            conjunto = conjunto.descendingSet();
+        }
+        if (desde != null) {
+            conjunto = conjunto.tailSet(desde, false);
+        }
+
+        List<Tupla<Integer, String>> elementos = new ArrayList<>();
+        CursorProyectos ultima = null;
+        Iterator<CursorProyectos> it = conjunto.iterator();
+        while (it.hasNext() && elementos.size() < tamanio) {
+            ultima = it.next();
+            elementos.add(new Tupla<>(ultima.getNumero(), domicilios.get(ultima.getNumero())));
+        }
+        return new PaginaProyectos(elementos, it.hasNext() ? ultima : null);
+    }
+
+    /**
+     * @return Cantidad de proyectos indexados en el estado indicado
+     */
+    public int cantidad(String estado) {
+        if (!indices.containsKey(estado)) {
+            throw new IllegalArgumentException("Estado inválido");
+        }
+        return indices.get(estado).get(OrdenProyectos.NUMERO).size();
+    }
+}
@@ -0,0 +1,162 @@
+package entidades;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registro ordenado y con fecha y hora de todas las modificaciones de un proyecto.
+ * Permite reconstruir cómo estaba el proyecto en cualquier momento pasado.
+ *
+ * Estructuras de datos:
+ * - List<RegistroHistorial>: registros en orden cronológico (permite búsqueda binaria)
+ * - List<FotoProyecto>: una foto completa cada INTERVALO_FOTOS registros, así una
+ *   consulta parte de la foto más cercana y aplica a lo sumo INTERVALO_FOTOS registros
+ *
+ * Cuando el proyecto se archiva, compactar() cierra la línea de tiempo: descarta
+ * el estado actual, conserva una de cada FOTOS_POR_FOTO_COMPACTADA fotos y
+ * ajusta las listas a su tamaño. Una consulta sobre un proyecto archivado
+ * aplica a lo sumo INTERVALO_FOTOS * FOTOS_POR_FOTO_COMPACTADA registros.
+ *
+ * Invariantes:
+ * - los momentos de los registros son no decrecientes
+ * - fotos.get(i) es el estado luego de aplicar los registros [0, (i + 1) * intervaloFotos)
+ * - actual es null si y solo si la línea de tiempo está cerrada
+ * - intervaloFotos es INTERVALO_FOTOS mientras está abierta e
+ *   INTERVALO_FOTOS * FOTOS_POR_FOTO_COMPACTADA cuando está cerrada
+ */
+public class LineaDeTiempoProyecto {
+    private static final int INTERVALO_FOTOS = 32;
+    private static final int FOTOS_POR_FOTO_COMPACTADA = 8;
+    private final int numeroProyecto;
+    private final ArrayList<RegistroHistorial> registros;
+    private final ArrayList<FotoProyecto> fotos;
+    private FotoProyecto actual;
+    private int intervaloFotos;
+
+    public LineaDeTiempoProyecto(int numeroProyecto) {
+        if (numeroProyecto <= 0) {
+            throw new IllegalArgumentException("El número de proyecto debe ser mayor que 0");
+        }
+        this.numeroProyecto = numeroProyecto;
+        this.registros = new ArrayList<>();
+        this.fotos = new ArrayList<>();
+        this.actual = new FotoProyecto(numeroProyecto);
+        this.intervaloFotos = INTERVALO_FOTOS;
+    }
+
+    /**
+     * Agrega un registro al final de la línea de tiempo.
+     *
+     * @param registro El registro a agregar
+     * @throws IllegalArgumentException si es nulo o anterior al último registro
+     * @throws IllegalStateException si la línea de tiempo está cerrada
+     */
+    public void registrar(RegistroHistorial registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("El registro no puede ser nulo");
+        }
+        if (actual == null) {
+            throw new IllegalStateException("La línea de tiempo está cerrada");
+        }
+        if (!registros.isEmpty() && registro.getMomento().isBefore(ultimoMomento())) {
+            throw new IllegalArgumentException("Los registros deben agregarse en orden cronológico");
+        }
+        registros.add(registro);
+        actual.aplicar(registro);
+        if (registros.size() % INTERVALO_FOTOS == 0) {
+            fotos.add(actual.copiar());
+        }
+    }
+
+    /**
+     * Reconstruye el estado del proyecto en un momento dado.
+     *
+     * Proceso:
+     * 1. Busca (binaria) el último registro con momento <= al pedido
+     * 2. Parte de la foto anterior más cercana a ese registro
+     * 3. Aplica los registros restantes hasta llegar a él
+     *
+     * @param momento El momento a consultar
+     * @return El estado del proyecto en ese momento
+     * @throws IllegalArgumentException si el proyecto no existía en ese momento
+     */
+    public FotoProyecto consultarAl(LocalDateTime momento) {
+        if (momento == null) {
+            throw new IllegalArgumentException("El momento no puede ser nulo");
+        }
+        int ultimo = ultimoRegistroHasta(momento);
+        if (ultimo == -1) {
+            throw new IllegalArgumentException("El proyecto no existía en ese momento");
+        }
+        int cantidadAplicada = Math.min((ultimo + 1) / intervaloFotos, fotos.size()) * intervaloFotos;
+        FotoProyecto foto = cantidadAplicada == 0 ? new FotoProyecto(numeroProyecto)
+                : fotos.get(cantidadAplicada / intervaloFotos - 1).copiar();
+        for (int i = cantidadAplicada; i <= ultimo; i++) {
+            foto.aplicar(registros.get(i));
+        }
+        return foto;
+    }
+
+    /**
+     * Cierra la línea de tiempo para un proyecto archivado: conserva los
+     * registros y una de cada FOTOS_POR_FOTO_COMPACTADA fotos, así reconstruir
+     * un momento sigue teniendo un costo acotado.
+     *
+     * @return Esta misma línea de tiempo
+     */
+    public LineaDeTiempoProyecto compactar() {
+        if (actual == null) {
+            return this;
+        }
+        actual = null;
+        // La foto i cubre (i + 1) * INTERVALO_FOTOS registros: quedan las que cubren un múltiplo del nuevo intervalo
+        int conservadas = 0;
+        for (int i = FOTOS_POR_FOTO_COMPACTADA - 1; i < fotos.size(); i += FOTOS_POR_FOTO_COMPACTADA) {
+            fotos.set(conservadas++, fotos.get(i));
+        }
+        fotos.subList(conservadas, fotos.size()).clear();
+        fotos.trimToSize();
+        intervaloFotos = INTERVALO_FOTOS * FOTOS_POR_FOTO_COMPACTADA;
+        registros.trimToSize();
+        return this;
+    }
+
+    /**
+     * @return Copia de los registros con momento dentro del rango [desde, hasta]
+     */
+    public List<RegistroHistorial> getRegistros(LocalDateTime desde, LocalDateTime hasta) {
+        List<RegistroHistorial> resultado = new ArrayList<>();
+        for (int i = ultimoRegistroHasta(desde.minusNanos(1)) + 1; i < registros.size(); i++) {
+            if (registros.get(i).getMomento().isAfter(hasta)) {
+                break;
+            }
+            resultado.add(registros.get(i));
+        }
+        return resultado;
+    }
+
+    public int cantidadRegistros() {
+        return registros.size();
+    }
+
+    public LocalDateTime ultimoMomento() {
+        return registros.isEmpty() ? null : registros.get(registros.size() - 1).getMomento();
+    }
+
+    private int ultimoRegistroHasta(LocalDateTime momento) {
+        int bajo = 0;
+        int alto = registros.size() - 1;
+        int resultado = -1;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (registros.get(medio).getMomento().isAfter(momento)) {
+                alto = medio - 1;
+            } else {
+                resultado = medio;
+                bajo = medio + 1;
+            }
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,12 @@
+package entidades;
+
+/**
+ * Criterios por los que se puede ordenar un listado de proyectos.
+ * Ante valores iguales, los proyectos se ordenan por número.
+ */
+public enum OrdenProyectos {
+    NUMERO,
+    FECHA_INICIO,
+    FECHA_REAL_FIN,
+    COSTO
+}
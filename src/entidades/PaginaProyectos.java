@@ -0,0 +1,34 @@
+package entidades;
+
+import java.util.List;
+
+/**
+ * Una página de un listado ordenado de proyectos.
+ *
+ * - elementos: tuplas (número, domicilio) en el orden pedido
+ * - siguiente: cursor para pedir la página siguiente, o null si no hay más
+ */
+public class PaginaProyectos {
+    private final List<Tupla<Integer, String>> elementos;
+    private final CursorProyectos siguiente;
+
+    public PaginaProyectos(List<Tupla<Integer, String>> elementos, CursorProyectos siguiente) {
+        if (elementos == null) {
+            throw new IllegalArgumentException("Los elementos no pueden ser nulos");
+        }
+        this.elementos = elementos;
+        this.siguiente = siguiente;
+    }
+
+    public List<Tupla<Integer, String>> getElementos() {
+        return elementos;
+    }
+
+    public CursorProyectos getSiguiente() {
+        return siguiente;
+    }
+
+    public boolean hayMas() {
+        return siguiente != null;
+    }
+}
@@ -0,0 +1,334 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Planificación de las tareas de un proyecto por el método del camino crítico.
+ * Las tareas sin dependencias pueden hacerse en paralelo; una tarea con
+ * dependencias empieza cuando terminan todas las tareas de las que depende.
+ *
+ * Para cada tarea calcula, en días desde el inicio del proyecto:
+ * - inicio y fin tempranos (lo antes que puede empezar y terminar)
+ * - inicio y fin tardíos (lo más tarde posible sin demorar el proyecto)
+ * La duración de una tarea son sus días necesarios más sus retrasos.
+ *
+ * Cuando cambia la duración de una tarea (por un retraso) solo se recalculan
+ * los tiempos tempranos de las tareas que dependen de ella, en orden
+ * topológico. Los tiempos tardíos se recalculan solo para las tareas
+ * anteriores a la modificada, salvo que cambie el fin del proyecto.
+ *
+ * Invariantes:
+ * - El grafo de dependencias no tiene ciclos
+ * - orden[posicion[i]] == i para toda tarea i
+ */
+public class PlanificacionTareas {
+    private static final double EPSILON = 1e-9;
+
+    private final List<Tarea> tareas = new ArrayList<>();
+    private final Map<Tarea, Integer> indices = new IdentityHashMap<>();
+    private final List<List<Integer>> anteriores = new ArrayList<>();
+    private final List<List<Integer>> posteriores = new ArrayList<>();
+    private double[] duracion = new double[8];
+    private double[] inicioTemprano = new double[8];
+    private double[] finTemprano = new double[8];
+    private double[] inicioTardio = new double[8];
+    private double[] finTardio = new double[8];
+    private int[] orden = new int[8];
+    private int[] posicion = new int[8];
+    private double fin;
+
+    /**
+     * Agrega una tarea sin dependencias.
+     *
+     * @param tarea La tarea a agregar
+     * @throws IllegalArgumentException si la tarea es nula o ya fue agregada
+     */
+    public void agregarTarea(Tarea tarea) {
+        if (tarea == null) {
+            throw new IllegalArgumentException("La tarea no puede ser nula");
+        }
+        if (indices.containsKey(tarea)) {
+            throw new IllegalArgumentException("La tarea ya pertenece a la planificación");
+        }
+        int i = tareas.size();
+        asegurarCapacidad(i + 1);
+        tareas.add(tarea);
+        indices.put(tarea, i);
+        anteriores.add(new ArrayList<>());
+        posteriores.add(new ArrayList<>());
+        duracion[i] = duracionDe(tarea);
+        // Una tarea sin dependencias puede ir al final del orden topológico
+        orden[i] = i;
+        posicion[i] = i;
+        inicioTemprano[i] = 0;
+        finTemprano[i] = duracion[i];
+        if (finTemprano[i] > fin + EPSILON) {
+            fin = finTemprano[i];
+            calcularTardios();
+        } else {
+            calcularTardio(i);
+        }
+    }
+
+    /**
+     * Indica que la tarea posterior no puede empezar hasta que termine la anterior.
+     *
+     * @param anterior La tarea que debe terminar primero
+     * @param posterior La tarea que depende de ella
+     * @throws IllegalArgumentException si alguna tarea no pertenece a la planificación,
+     *         son la misma tarea o la dependencia genera un ciclo
+     */
+    public void agregarDependencia(Tarea anterior, Tarea posterior) {
+        int a = indiceDe(anterior);
+        int p = indiceDe(posterior);
+        if (a == p) {
+            throw new IllegalArgumentException("Una tarea no puede depender de sí misma");
+        }
+        if (posteriores.get(a).contains(p)) {
+            return;
+        }
+        if (alcanza(p, a)) {
+            throw new IllegalArgumentException("La dependencia genera un ciclo");
+        }
+        posteriores.get(a).add(p);
+        anteriores.get(p).add(a);
+        ordenarTopologicamente();
+        calcularTempranos();
+        calcularTardios();
+    }
+
+    /**
+     * Recalcula la planificación después de que cambió la duración de una tarea
+     * (por ejemplo, al registrar un retraso).
+     *
+     * @param tarea La tarea modificada
+     * @throws IllegalArgumentException si la tarea no pertenece a la planificación
+     */
+    public void actualizarDuracion(Tarea tarea) {
+        int t = indiceDe(tarea);
+        double nueva = duracionDe(tarea);
+        if (Math.abs(nueva - duracion[t]) < EPSILON) {
+            return;
+        }
+        duracion[t] = nueva;
+
+        // Pasada hacia adelante solo sobre las tareas afectadas, en orden topológico
+        PriorityQueue<Integer> pendientes = new PriorityQueue<>((x, y) -> Integer.compare(posicion[x], posicion[y]));
+        boolean[] encolada = new boolean[tareas.size()];
+        pendientes.add(t);
+        encolada[t] = true;
+        while (!pendientes.isEmpty()) {
+            int i = pendientes.poll();
+            double inicio = 0;
+            for (int a : anteriores.get(i)) {
+                inicio = Math.max(inicio, finTemprano[a]);
+            }
+            double nuevoFin = inicio + duracion[i];
+            if (i != t && Math.abs(nuevoFin - finTemprano[i]) < EPSILON) {
+                continue;
+            }
+            inicioTemprano[i] = inicio;
+            finTemprano[i] = nuevoFin;
+            for (int p : posteriores.get(i)) {
+                if (!encolada[p]) {
+                    encolada[p] = true;
+                    pendientes.add(p);
+                }
+            }
+        }
+
+        double nuevoFinProyecto = 0;
+        for (int i = 0; i < tareas.size(); i++) {
+            nuevoFinProyecto = Math.max(nuevoFinProyecto, finTemprano[i]);
+        }
+        if (Math.abs(nuevoFinProyecto - fin) >= EPSILON) {
+            fin = nuevoFinProyecto;
+            calcularTardios();
+        } else {
+            // Con el mismo fin, solo cambian los tardíos de la tarea y sus anteriores
+            calcularTardiosHasta(t);
+        }
+    }
+
+    public double getInicioTemprano(Tarea tarea) {
+        return inicioTemprano[indiceDe(tarea)];
+    }
+
+    public double getFinTemprano(Tarea tarea) {
+        return finTemprano[indiceDe(tarea)];
+    }
+
+    public double getInicioTardio(Tarea tarea) {
+        return inicioTardio[indiceDe(tarea)];
+    }
+
+    public double getFinTardio(Tarea tarea) {
+        return finTardio[indiceDe(tarea)];
+    }
+
+    /**
+     * @return Días que la tarea puede demorarse sin demorar el proyecto
+     */
+    public double getHolgura(Tarea tarea) {
+        int i = indiceDe(tarea);
+        return inicioTardio[i] - inicioTemprano[i];
+    }
+
+    /**
+     * @return true si la tarea está en el camino crítico (no tiene holgura)
+     */
+    public boolean esCritica(Tarea tarea) {
+        return getHolgura(tarea) < EPSILON;
+    }
+
+    /**
+     * @return Duración total del proyecto en días, según las dependencias
+     */
+    public double getDuracionTotal() {
+        return fin;
+    }
+
+    /**
+     * @return Las tareas del camino crítico, ordenadas por inicio temprano
+     */
+    public List<Tarea> getRutaCritica() {
+        List<Tarea> ruta = new ArrayList<>();
+        for (int k = 0; k < tareas.size(); k++) {
+            int i = orden[k];
+            if (inicioTardio[i] - inicioTemprano[i] < EPSILON) {
+                ruta.add(tareas.get(i));
+            }
+        }
+        ruta.sort((x, y) -> Double.compare(getInicioTemprano(x), getInicioTemprano(y)));
+        return ruta;
+    }
+
+    /**
+     * @return Los títulos de las tareas de las que depende la tarea
+     */
+    public List<String> getDependencias(Tarea tarea) {
+        List<String> titulos = new ArrayList<>();
+        for (int a : anteriores.get(indiceDe(tarea))) {
+            titulos.add(tareas.get(a).getTitulo());
+        }
+        return titulos;
+    }
+
+    private int indiceDe(Tarea tarea) {
+        Integer i = tarea == null ? null : indices.get(tarea);
+        if (i == null) {
+            throw new IllegalArgumentException("La tarea no pertenece a la planificación");
+        }
+        return i;
+    }
+
+    private static double duracionDe(Tarea tarea) {
+        return tarea.getDuracionEstimada() + tarea.getDiasRetraso();
+    }
+
+    private boolean alcanza(int desde, int hasta) {
+        boolean[] visitada = new boolean[tareas.size()];
+        List<Integer> pila = new ArrayList<>();
+        pila.add(desde);
+        visitada[desde] = true;
+        while (!pila.isEmpty()) {
+            int i = pila.remove(pila.size() - 1);
+            if (i == hasta) {
+                return true;
+            }
+            for (int p : posteriores.get(i)) {
+                if (!visitada[p]) {
+                    visitada[p] = true;
+                    pila.add(p);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void ordenarTopologicamente() {
+        int n = tareas.size();
+        int[] entrantes = new int[n];
+        for (int i = 0; i < n; i++) {
+            entrantes[i] = anteriores.get(i).size();
+        }
+        // Kahn, manteniendo el orden de alta entre tareas independientes
+        PriorityQueue<Integer> listas = new PriorityQueue<>();
+        for (int i = 0; i < n; i++) {
+            if (entrantes[i] == 0) {
+                listas.add(i);
+            }
+        }
+        int k = 0;
+        while (!listas.isEmpty()) {
+            int i = listas.poll();
+            orden[k] = i;
+            posicion[i] = k;
+            k++;
+            for (int p : posteriores.get(i)) {
+                if (--entrantes[p] == 0) {
+                    listas.add(p);
+                }
+            }
+        }
+    }
+
+    private void calcularTempranos() {
+        fin = 0;
+        for (int k = 0; k < tareas.size(); k++) {
+            int i = orden[k];
+            double inicio = 0;
+            for (int a : anteriores.get(i)) {
+                inicio = Math.max(inicio, finTemprano[a]);
+            }
+            inicioTemprano[i] = inicio;
+            finTemprano[i] = inicio + duracion[i];
+            fin = Math.max(fin, finTemprano[i]);
+        }
+    }
+
+    private void calcularTardios() {
+        for (int k = tareas.size() - 1; k >= 0; k--) {
+            calcularTardio(orden[k]);
+        }
+    }
+
+    /**
+     * Recalcula los tiempos tardíos de la tarea t y de todas las anteriores a
+     * ella en el orden topológico; las posteriores no cambian porque el fin
+     * del proyecto y sus duraciones son los mismos.
+     */
+    private void calcularTardiosHasta(int t) {
+        for (int k = posicion[t]; k >= 0; k--) {
+            calcularTardio(orden[k]);
+        }
+    }
+
+    private void calcularTardio(int i) {
+        double finLimite = fin;
+        for (int p : posteriores.get(i)) {
+            finLimite = Math.min(finLimite, inicioTardio[p]);
+        }
+        finTardio[i] = finLimite;
+        inicioTardio[i] = finLimite - duracion[i];
+    }
+
+    private void asegurarCapacidad(int capacidad) {
+        if (capacidad <= duracion.length) {
+            return;
+        }
+        int nueva = Math.max(capacidad, duracion.length * 2);
+        duracion = Arrays.copyOf(duracion, nueva);
+        inicioTemprano = Arrays.copyOf(inicioTemprano, nueva);
+        finTemprano = Arrays.copyOf(finTemprano, nueva);
+        inicioTardio = Arrays.copyOf(inicioTardio, nueva);
+        finTardio = Arrays.copyOf(finTardio, nueva);
+        orden = Arrays.copyOf(orden, nueva);
+        posicion = Arrays.copyOf(posicion, nueva);
+    }
+}
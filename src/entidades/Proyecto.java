@@ -2,7 +2,10 @@ package entidades;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Representa un proyecto en el sistema HomeSolution.
@@ -15,7 +18,12 @@ import java.util.List;
  * - Controla fechas de inicio, fin estimado y fin real
  * - Gestiona estados (pendiente, en_progreso, finalizado)
  * - Calcula costos totales
+ * - Cuenta los días de las tareas como días hábiles según su calendario laboral
  * - Mantiene un historial de asignaciones
+ *
+ * Las fechas se guardan como días desde 1970-01-01 (LocalDate.toEpochDay()):
+ * las cuentas y comparaciones son con int, sin crear objetos. Los getters
+ * getFecha* convierten a LocalDate; los getDia* devuelven el int.
  * 
  * Invariantes:
  * - domicilio no puede ser null ni vacío
@@ -24,19 +32,41 @@ import java.util.List;
  * - fechaFin no puede ser anterior a fechaInicio
  */
 public class Proyecto {
+    /** Valor de getDiaRealFin() cuando el proyecto no tiene fecha real de fin */
+    public static final int SIN_FECHA = Integer.MIN_VALUE;
+
     private static int nextNumero = 1;
     private int numero;
     private String domicilio;
     private String cliente;
-    private LocalDate fechaInicio;
-    private LocalDate fechaEstimadaFin;
-    private LocalDate fechaRealFin;
+    private int diaInicio;
+    private int diaEstimadoFin;
+    // SIN_FECHA si no tiene
+    private int diaRealFin;
     private List<Tarea> tareas;
+    // Las mismas tareas por título; si se repite un título, la primera
+    private Map<String, Tarea> tareasPorTitulo;
     private String estado;
-    private double costoCalculado;
+    // Costo en centavos (ver Dinero)
+    private long costoCalculado;
     private HistorialProyecto historial;
+    private LineaDeTiempoProyecto lineaDeTiempo;
+    private PlanificacionTareas planificacion;
+    private CalendarioLaboral calendario;
+    private long version;
+    // Bloque de este proyecto en el reporte del sistema y la versión con que se generó
+    private String bloqueReporte;
+    private long versionBloqueReporte;
 
     public Proyecto(String domicilio, String cliente, LocalDate fechaInicio, LocalDate fechaFin) {
+        this(domicilio, cliente, fechaInicio, fechaFin, CalendarioLaboral.TODOS_LOS_DIAS);
+    }
+
+    /**
+     * @param calendario Calendario con el que se cuentan los días de las tareas y retrasos
+     */
+    public Proyecto(String domicilio, String cliente, LocalDate fechaInicio, LocalDate fechaFin,
+            CalendarioLaboral calendario) {
         if (domicilio == null || domicilio.trim().isEmpty()) {
             throw new IllegalArgumentException("El domicilio no puede ser nulo o vacío");
         }
@@ -49,17 +79,24 @@ public class Proyecto {
         if (fechaFin.isBefore(fechaInicio)) {
             throw new IllegalArgumentException("La fecha de fin no puede ser anterior a la fecha de inicio");
         }
+        if (calendario == null) {
+            throw new IllegalArgumentException("El calendario no puede ser nulo");
+        }
 
         this.numero = nextNumero++;
         this.domicilio = domicilio;
         this.cliente = cliente;
-        this.fechaInicio = fechaInicio;
-        this.fechaEstimadaFin = fechaFin;
-        this.fechaRealFin = fechaFin;
+        this.diaInicio = Fecha.aDia(fechaInicio);
+        this.diaEstimadoFin = Fecha.aDia(fechaFin);
+        this.diaRealFin = diaEstimadoFin;
         this.tareas = new ArrayList<>();
+        this.tareasPorTitulo = new HashMap<>();
         this.estado = Estado.pendiente;
         this.costoCalculado = 0;
         this.historial = new HistorialProyecto(numero);
+        this.lineaDeTiempo = new LineaDeTiempoProyecto(numero);
+        this.planificacion = new PlanificacionTareas();
+        this.calendario = calendario;
     }
 
     public int getNumero() {
@@ -75,19 +112,56 @@ public class Proyecto {
     }
 
     public LocalDate getFechaInicio() {
-        return fechaInicio;
+        return LocalDate.ofEpochDay(diaInicio);
     }
 
     public LocalDate getFechaEstimadaFin() {
-        return fechaEstimadaFin;
+        return LocalDate.ofEpochDay(diaEstimadoFin);
     }
 
     public LocalDate getFechaRealFin() {
-        return fechaRealFin;
+        return diaRealFin == SIN_FECHA ? null : LocalDate.ofEpochDay(diaRealFin);
+    }
+
+    public int getDiaInicio() {
+        return diaInicio;
+    }
+
+    public int getDiaEstimadoFin() {
+        return diaEstimadoFin;
+    }
+
+    /**
+     * @return La fecha real de fin como día, o SIN_FECHA si no tiene
+     */
+    public int getDiaRealFin() {
+        return diaRealFin;
+    }
+
+    /**
+     * @return La fecha real de fin como día, o la estimada si no tiene fecha real
+     */
+    public int getDiaFin() {
+        return diaRealFin == SIN_FECHA ? diaEstimadoFin : diaRealFin;
+    }
+
+    public CalendarioLaboral getCalendario() {
+        return calendario;
+    }
+
+    public LineaDeTiempoProyecto getLineaDeTiempo() {
+        return lineaDeTiempo;
     }
 
     public void setFechaFin(LocalDate fechaFin) {
-        this.fechaRealFin = fechaFin;
+        this.diaRealFin = fechaFin == null ? SIN_FECHA : Fecha.aDia(fechaFin);
+    }
+
+    /**
+     * @param dia La fecha real de fin como día, o SIN_FECHA
+     */
+    public void setDiaFin(int dia) {
+        this.diaRealFin = dia;
     }
 
     public String getEstado() {
@@ -102,22 +176,89 @@ public class Proyecto {
         return new ArrayList<>(tareas);
     }
 
+    /**
+     * @return La tarea con ese título, o null si el proyecto no la tiene. O(1).
+     */
+    public Tarea getTarea(String titulo) {
+        return tareasPorTitulo.get(titulo);
+    }
+
     public void agregarTarea(Tarea tarea) {
         if (tarea == null) {
             throw new IllegalArgumentException("La tarea no puede ser nula");
         }
         tareas.add(tarea);
+        tareasPorTitulo.putIfAbsent(tarea.getTitulo(), tarea);
+        planificacion.agregarTarea(tarea);
 
         // Actualizar fechas
         int diasAAgregar = (int) Math.ceil(tarea.getDuracionEstimada());
-        this.fechaEstimadaFin = this.fechaEstimadaFin.plusDays(diasAAgregar);
-        if (this.fechaRealFin != null) {
-            this.fechaRealFin = this.fechaRealFin.plusDays(diasAAgregar);
+        this.diaEstimadoFin = (int) calendario.sumarDiasHabiles(diaEstimadoFin, diasAAgregar);
+        if (this.diaRealFin != SIN_FECHA) {
+            this.diaRealFin = (int) calendario.sumarDiasHabiles(diaRealFin, diasAAgregar);
         }
 
         actualizarCostoTotal();
     }
 
+    /**
+     * Indica que una tarea del proyecto no puede empezar hasta que termine otra.
+     * Las fechas estimada y real de fin no cambian: suponen tareas secuenciales.
+     * La fecha de fin según las dependencias se obtiene con getFechaFinPlanificada().
+     *
+     * @param anterior La tarea que debe terminar primero
+     * @param posterior La tarea que depende de ella
+     * @throws IllegalArgumentException si alguna tarea no es del proyecto o se genera un ciclo
+     */
+    public void agregarDependencia(Tarea anterior, Tarea posterior) {
+        planificacion.agregarDependencia(anterior, posterior);
+        // Cambian las fechas de inicio de las tareas y con ellas las tarifas vigentes
+        actualizarCostoTotal();
+    }
+
+    /**
+     * Actualiza la planificación después de un retraso en la tarea.
+     *
+     * @param tarea La tarea con el retraso
+     */
+    public void actualizarPlanificacion(Tarea tarea) {
+        planificacion.actualizarDuracion(tarea);
+    }
+
+    public PlanificacionTareas getPlanificacion() {
+        return planificacion;
+    }
+
+    /**
+     * Fecha de fin según el camino crítico: las tareas independientes se
+     * consideran en paralelo y se incluyen los retrasos registrados.
+     *
+     * @return La fecha de inicio más la duración del camino crítico en días hábiles, redondeada hacia arriba
+     */
+    public LocalDate getFechaFinPlanificada() {
+        return LocalDate.ofEpochDay(
+                calendario.sumarDiasHabiles(diaInicio, (int) Math.ceil(planificacion.getDuracionTotal())));
+    }
+
+    /**
+     * Fecha en que empieza una tarea según la planificación (su inicio temprano).
+     * Es la fecha que se usa para tomar la tarifa vigente del responsable.
+     *
+     * @param tarea Una tarea del proyecto
+     * @return La fecha de inicio del proyecto más el inicio temprano de la tarea
+     * @throws IllegalArgumentException si la tarea no pertenece al proyecto
+     */
+    public LocalDate getFechaInicioTarea(Tarea tarea) {
+        return LocalDate.ofEpochDay(getDiaInicioTarea(tarea));
+    }
+
+    /**
+     * Igual que getFechaInicioTarea, como día desde 1970-01-01.
+     */
+    public int getDiaInicioTarea(Tarea tarea) {
+        return (int) calendario.sumarDiasHabiles(diaInicio, (int) Math.ceil(planificacion.getInicioTemprano(tarea)));
+    }
+
     public void registrarEmpleadoEnTarea(Tarea tarea, IEmpleado empleado) {
         if (tarea == null || empleado == null) {
             throw new IllegalArgumentException("La tarea y el empleado no pueden ser nulos");
@@ -125,33 +266,101 @@ public class Proyecto {
         historial.registrarEmpleadoEnTarea(empleado, tarea);
     }
 
+    /**
+     * Recalcula el costo del proyecto. Cada tarea se cobra con la tarifa de su
+     * responsable vigente en la fecha de inicio de la tarea.
+     */
     public void actualizarCostoTotal() {
-        double costoBase = 0;
+        this.costoCalculado = calcularCostoCentavos();
+    }
+
+    /**
+     * Calcula el costo del proyecto sin guardarlo.
+     *
+     * @return El costo actual en centavos, con el margen aplicado
+     */
+    public long calcularCostoCentavos() {
+        long costoBase = 0;
         for (Tarea tarea : tareas) {
-            if (tarea.getEmpleadoAsignado() != null) {
-                costoBase += tarea.getEmpleadoAsignado().calcularCosto(tarea.getDuracionEstimada());
+            IEmpleado empleado = tarea.getEmpleadoAsignado();
+            if (empleado != null) {
+                costoBase = Math.addExact(costoBase, empleado.calcularCostoCentavos(tarea.getDuracionEstimada(),
+                        empleado.tuvoRetrasos(), getDiaInicioTarea(tarea)));
             }
         }
 
-        // Aplicar margen según retrasos
-        boolean tieneRetrasos = false;
+        return Dinero.aplicarPorcentaje(costoBase, getMargenPorcentaje(), Dinero.REDONDEO);
+    }
+
+    /**
+     * Margen que se aplica sobre el costo de las tareas:
+     * 1.25 si alguna tarea tuvo retrasos, 1.35 si no.
+     *
+     * @return El margen actual del proyecto
+     */
+    public double getMargen() {
+        return getMargenPorcentaje() / 100.0;
+    }
+
+    /**
+     * @return El margen como porcentaje entero: 125 si alguna tarea tuvo retrasos, 135 si no
+     */
+    public long getMargenPorcentaje() {
         for (Tarea tarea : tareas) {
             if (tarea.getDiasRetraso() > 0) {
-                tieneRetrasos = true;
-                break;
+                return 125;
             }
         }
+        return 135;
+    }
+
+    /**
+     * @return La versión de la última modificación del proyecto
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Registra que el proyecto fue modificado.
+     *
+     * @param version La nueva versión, debe ser mayor que la actual
+     * @throws IllegalArgumentException si la versión no es creciente
+     */
+    public void marcarModificado(long version) {
+        if (version <= this.version) {
+            throw new IllegalArgumentException("La versión debe ser creciente");
+        }
+        this.version = version;
+    }
 
-        double margen = tieneRetrasos ? 1.25 : 1.35;
-        this.costoCalculado = costoBase * margen;
+    /**
+     * Devuelve el bloque del proyecto para el reporte del sistema. Se guarda
+     * con el proyecto y se vuelve a generar solo si el proyecto cambió de versión.
+     *
+     * @param generador Genera el bloque a partir del estado actual
+     */
+    String getBloqueReporte(Supplier<String> generador) {
+        if (bloqueReporte == null || versionBloqueReporte != version) {
+            bloqueReporte = generador.get();
+            versionBloqueReporte = version;
+        }
+        return bloqueReporte;
     }
 
     public double getCostoCalculado() {
+        return Dinero.aDouble(costoCalculado);
+    }
+
+    /**
+     * @return El costo calculado en centavos
+     */
+    public long getCostoCentavos() {
         return costoCalculado;
     }
 
     public boolean tieneRetrasos() {
-        return fechaRealFin != null && fechaRealFin.isAfter(fechaEstimadaFin);
+        return diaRealFin != SIN_FECHA && diaRealFin > diaEstimadoFin;
     }
 
     @Override
@@ -160,13 +369,13 @@ public class Proyecto {
         sb.append("Proyecto #").append(numero).append("\n");
         sb.append("Cliente: ").append(cliente).append("\n");
         sb.append("Domicilio: ").append(domicilio).append("\n");
-        sb.append("Fecha inicio: ").append(fechaInicio).append("\n");
-        sb.append("Fecha estimada fin: ").append(fechaEstimadaFin).append("\n");
-        if (fechaRealFin != null) {
-            sb.append("Fecha real fin: ").append(fechaRealFin).append("\n");
+        sb.append("Fecha inicio: ").append(getFechaInicio()).append("\n");
+        sb.append("Fecha estimada fin: ").append(getFechaEstimadaFin()).append("\n");
+        if (diaRealFin != SIN_FECHA) {
+            sb.append("Fecha real fin: ").append(getFechaRealFin()).append("\n");
         }
         sb.append("Estado: ").append(estado).append("\n");
-        sb.append("Costo calculado: $").append(String.format("%.2f", costoCalculado)).append("\n");
+        sb.append("Costo calculado: $").append(String.format("%.2f", getCostoCalculado())).append("\n");
         sb.append("Tareas:\n");
         for (Tarea tarea : tareas) {
             sb.append("- ").append(tarea.toString()).append("\n");
@@ -175,7 +384,7 @@ public class Proyecto {
     }
 
     public boolean tieneDemora() {
-        return fechaRealFin != null && fechaRealFin.isAfter(fechaEstimadaFin);
+        return diaRealFin != SIN_FECHA && diaRealFin > diaEstimadoFin;
     }
 
     public void actualizarEstado() {
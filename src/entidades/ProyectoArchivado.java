@@ -0,0 +1,210 @@
+package entidades;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Representación compacta e inmutable de un proyecto finalizado.
+ * Un proyecto finalizado ya no puede modificarse, por lo que al finalizarlo
+ * el sistema reemplaza el Proyecto (con sus tareas, empleados e historial)
+ * por esta versión archivada que conserva solo lo necesario para las consultas.
+ *
+ * Características:
+ * - Guarda los datos del proyecto en campos primitivos y arreglos paralelos;
+ *   las fechas, como días desde 1970-01-01 (ver Proyecto)
+ * - No mantiene referencias a Tarea, IEmpleado ni HistorialProyecto
+ * - Conserva la línea de tiempo, compactada (solo los registros), para poder
+ *   consultar estados pasados
+ * - El costo queda congelado al momento de la finalización
+ *
+ * Invariantes:
+ * - titulos, legajos y nombres tienen la misma longitud
+ * - legajos[i] == 0 indica que la tarea i quedó sin empleado asignado
+ */
+public class ProyectoArchivado {
+    private final int numero;
+    private final String domicilio;
+    private final String cliente;
+    private final int diaInicio;
+    private final int diaEstimadoFin;
+    // Proyecto.SIN_FECHA si no tiene
+    private final int diaRealFin;
+    // Costo en centavos (ver Dinero)
+    private final long costoCalculado;
+    private final boolean tuvoRetrasos;
+    private final String[] titulos;
+    private final int[] legajos;
+    private final String[] nombres;
+    private final LineaDeTiempoProyecto lineaDeTiempo;
+    private final long version;
+    // Bloque del reporte del sistema; se genera la primera vez que se pide, porque no cambia más
+    private String bloqueReporte;
+
+    private ProyectoArchivado(Proyecto proyecto) {
+        this.numero = proyecto.getNumero();
+        this.domicilio = proyecto.getDomicilio();
+        this.cliente = proyecto.getCliente();
+        this.diaInicio = proyecto.getDiaInicio();
+        this.diaEstimadoFin = proyecto.getDiaEstimadoFin();
+        this.diaRealFin = proyecto.getDiaRealFin();
+        this.costoCalculado = proyecto.getCostoCentavos();
+        this.lineaDeTiempo = proyecto.getLineaDeTiempo().compactar();
+        this.version = proyecto.getVersion();
+
+        List<Tarea> tareas = proyecto.getTareas();
+        this.titulos = new String[tareas.size()];
+        this.legajos = new int[tareas.size()];
+        this.nombres = new String[tareas.size()];
+        boolean retrasos = false;
+        for (int i = 0; i < tareas.size(); i++) {
+            Tarea tarea = tareas.get(i);
+            titulos[i] = tarea.getTitulo();
+            IEmpleado empleado = tarea.getEmpleadoAsignado();
+            if (empleado != null) {
+                legajos[i] = empleado.getLegajo();
+                nombres[i] = empleado.getNombre();
+            }
+            if (tarea.getDiasRetraso() > 0) {
+                retrasos = true;
+            }
+        }
+        this.tuvoRetrasos = retrasos;
+    }
+
+    /**
+     * Archiva un proyecto finalizado.
+     *
+     * @param proyecto El proyecto a archivar
+     * @return La versión compacta del proyecto
+     * @throws IllegalArgumentException si el proyecto es nulo o no está finalizado
+     */
+    public static ProyectoArchivado archivar(Proyecto proyecto) {
+        if (proyecto == null) {
+            throw new IllegalArgumentException("El proyecto no puede ser nulo");
+        }
+        if (!Estado.finalizado.equals(proyecto.getEstado())) {
+            throw new IllegalArgumentException("Solo se pueden archivar proyectos finalizados");
+        }
+        return new ProyectoArchivado(proyecto);
+    }
+
+    public int getNumero() {
+        return numero;
+    }
+
+    public String getDomicilio() {
+        return domicilio;
+    }
+
+    public String getCliente() {
+        return cliente;
+    }
+
+    public LocalDate getFechaInicio() {
+        return LocalDate.ofEpochDay(diaInicio);
+    }
+
+    public LocalDate getFechaEstimadaFin() {
+        return LocalDate.ofEpochDay(diaEstimadoFin);
+    }
+
+    public LocalDate getFechaRealFin() {
+        return diaRealFin == Proyecto.SIN_FECHA ? null : LocalDate.ofEpochDay(diaRealFin);
+    }
+
+    public String getEstado() {
+        return Estado.finalizado;
+    }
+
+    public double getCostoCalculado() {
+        return Dinero.aDouble(costoCalculado);
+    }
+
+    /**
+     * @return El costo final en centavos
+     */
+    public long getCostoCentavos() {
+        return costoCalculado;
+    }
+
+    public boolean tuvoRetrasos() {
+        return tuvoRetrasos;
+    }
+
+    /**
+     * @return La versión del proyecto al momento de archivarlo
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param generador Genera el bloque del reporte del sistema, solo la primera vez
+     * @return El bloque del proyecto para el reporte del sistema
+     */
+    String getBloqueReporte(Supplier<String> generador) {
+        if (bloqueReporte == null) {
+            bloqueReporte = generador.get();
+        }
+        return bloqueReporte;
+    }
+
+    public LineaDeTiempoProyecto getLineaDeTiempo() {
+        return lineaDeTiempo;
+    }
+
+    public String[] getTitulosTareas() {
+        return titulos.clone();
+    }
+
+    /**
+     * @return Los títulos de las tareas que quedaron sin empleado asignado
+     */
+    public String[] getTitulosTareasNoAsignadas() {
+        List<String> resultado = new ArrayList<>();
+        for (int i = 0; i < titulos.length; i++) {
+            if (legajos[i] == 0) {
+                resultado.add(titulos[i]);
+            }
+        }
+        return resultado.toArray(new String[0]);
+    }
+
+    /**
+     * @return Lista de tuplas (legajo, nombre) de los responsables de cada tarea
+     */
+    public List<Tupla<Integer, String>> getEmpleadosAsignados() {
+        List<Tupla<Integer, String>> resultado = new ArrayList<>();
+        for (int i = 0; i < titulos.length; i++) {
+            if (legajos[i] != 0) {
+                resultado.add(new Tupla<>(legajos[i], nombres[i]));
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Misma representación que Proyecto.toString() para un proyecto finalizado.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Proyecto #").append(numero).append("\n");
+        sb.append("Cliente: ").append(cliente).append("\n");
+        sb.append("Domicilio: ").append(domicilio).append("\n");
+        sb.append("Fecha inicio: ").append(getFechaInicio()).append("\n");
+        sb.append("Fecha estimada fin: ").append(getFechaEstimadaFin()).append("\n");
+        if (diaRealFin != Proyecto.SIN_FECHA) {
+            sb.append("Fecha real fin: ").append(getFechaRealFin()).append("\n");
+        }
+        sb.append("Estado: ").append(Estado.finalizado).append("\n");
+        sb.append("Costo calculado: $").append(String.format("%.2f", getCostoCalculado())).append("\n");
+        sb.append("Tareas:\n");
+        for (String titulo : titulos) {
+            sb.append("- ").append(titulo).append("\n");
+        }
+        return sb.toString();
+    }
+}
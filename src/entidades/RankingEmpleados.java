@@ -0,0 +1,116 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Rankings de empleados mantenidos en forma incremental.
+ * Cada criterio tiene un árbol ordenado por (valor, legajo): actualizar un
+ * valor cuesta O(log n) y obtener los K primeros o últimos cuesta O(K),
+ * sin recorrer a todos los empleados.
+ *
+ * Estructuras de datos:
+ * - Map<CriterioRanking, TreeSet<Posicion>>: un árbol por criterio
+ * - Map<Integer, double[]>: valor actual de cada criterio por legajo
+ */
+public class RankingEmpleados {
+    private final Map<CriterioRanking, TreeSet<Posicion>> rankings;
+    private final Map<Integer, double[]> valores;
+
+    private static class Posicion implements Comparable<Posicion> {
+        private final double valor;
+        private final int legajo;
+
+        Posicion(double valor, int legajo) {
+            this.valor = valor;
+            this.legajo = legajo;
+        }
+
+        @Override
+        public int compareTo(Posicion otra) {
+            int comparacion = Double.compare(valor, otra.valor);
+            return comparacion != 0 ? comparacion : Integer.compare(otra.legajo, legajo);
+        }
+    }
+
+    public RankingEmpleados() {
+        this.rankings = new EnumMap<>(CriterioRanking.class);
+        for (CriterioRanking criterio : CriterioRanking.values()) {
+            rankings.put(criterio, new TreeSet<>());
+        }
+        this.valores = new HashMap<>();
+    }
+
+    /**
+     * Agrega un empleado a todos los rankings con valor 0, si no estaba.
+     */
+    public void agregar(int legajo) {
+        if (valores.containsKey(legajo)) {
+            return;
+        }
+        valores.put(legajo, new double[CriterioRanking.values().length]);
+        for (TreeSet<Posicion> ranking : rankings.values()) {
+            ranking.add(new Posicion(0, legajo));
+        }
+    }
+
+    /**
+     * Reemplaza el valor de un criterio para un empleado. O(log n).
+     */
+    public void establecer(CriterioRanking criterio, int legajo, double valor) {
+        agregar(legajo);
+        double[] actuales = valores.get(legajo);
+        if (actuales[criterio.ordinal()] == valor) {
+            return;
+        }
+        TreeSet<Posicion> ranking = rankings.get(criterio);
+        ranking.remove(new Posicion(actuales[criterio.ordinal()], legajo));
+        actuales[criterio.ordinal()] = valor;
+        ranking.add(new Posicion(valor, legajo));
+    }
+
+    /**
+     * Suma una cantidad al valor de un criterio para un empleado. O(log n).
+     */
+    public void sumar(CriterioRanking criterio, int legajo, double cantidad) {
+        agregar(legajo);
+        establecer(criterio, legajo, valores.get(legajo)[criterio.ordinal()] + cantidad);
+    }
+
+    /**
+     * @return El valor actual del criterio para el empleado, o 0 si no está
+     */
+    public double valor(CriterioRanking criterio, int legajo) {
+        double[] actuales = valores.get(legajo);
+        return actuales == null ? 0 : actuales[criterio.ordinal()];
+    }
+
+    /**
+     * Devuelve los K empleados con mayor (o menor) valor en un criterio. O(K).
+     * Ante valores iguales el orden se desempata por legajo.
+     *
+     * @param criterio Criterio del ranking
+     * @param k Cantidad de empleados a devolver
+     * @param mayores true para los de mayor valor, false para los de menor
+     * @return Lista de tuplas (legajo, valor)
+     * @throws IllegalArgumentException si k <= 0
+     */
+    public List<Tupla<Integer, Double>> primeros(CriterioRanking criterio, int k, boolean mayores) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("La cantidad debe ser mayor que 0");
+        }
+        TreeSet<Posicion> ranking = rankings.get(criterio);
+        Iterator<Posicion> it = mayores ? ranking.descendingIterator() : ranking.iterator();
+        List<Tupla<Integer, Double>> resultado = new ArrayList<>();
+        while (it.hasNext() && resultado.size() < k) {
+            Posicion posicion = it.next();
+            resultado.add(new Tupla<>(posicion.legajo, posicion.valor));
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,100 @@
+package entidades;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entrada inmutable de la línea de tiempo de un proyecto.
+ * Describe una modificación (tipo, tarea, legajo, valor) y el estado, las
+ * fechas y el costo del proyecto inmediatamente después de ella.
+ *
+ * Las fechas se guardan como días desde 1970-01-01 (Proyecto.SIN_FECHA si no
+ * hay) para no guardar dos LocalDate por registro.
+ */
+public class RegistroHistorial {
+    private final LocalDateTime momento;
+    private final TipoEvento tipo;
+    private final String titulo;
+    private final int legajo;
+    private final double valor;
+    private final String estado;
+    private final int diaEstimadoFin;
+    private final int diaRealFin;
+    // Costo en centavos (ver Dinero)
+    private final long costoCentavos;
+
+    public RegistroHistorial(LocalDateTime momento, TipoEvento tipo, String titulo, int legajo, double valor,
+            String estado, int diaEstimadoFin, int diaRealFin, long costoCentavos) {
+        if (momento == null || tipo == null || estado == null) {
+            throw new IllegalArgumentException("El momento, el tipo y el estado no pueden ser nulos");
+        }
+        this.momento = momento;
+        this.tipo = tipo;
+        this.titulo = titulo;
+        this.legajo = legajo;
+        this.valor = valor;
+        this.estado = estado;
+        this.diaEstimadoFin = diaEstimadoFin;
+        this.diaRealFin = diaRealFin;
+        this.costoCentavos = costoCentavos;
+    }
+
+    public LocalDateTime getMomento() {
+        return momento;
+    }
+
+    public TipoEvento getTipo() {
+        return tipo;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public int getLegajo() {
+        return legajo;
+    }
+
+    /**
+     * @return Días de la tarea agregada o del retraso registrado, según el tipo
+     */
+    public double getValor() {
+        return valor;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public LocalDate getFechaEstimadaFin() {
+        return LocalDate.ofEpochDay(diaEstimadoFin);
+    }
+
+    public LocalDate getFechaRealFin() {
+        return diaRealFin == Proyecto.SIN_FECHA ? null : LocalDate.ofEpochDay(diaRealFin);
+    }
+
+    public int getDiaEstimadoFin() {
+        return diaEstimadoFin;
+    }
+
+    /**
+     * @return La fecha real de fin como día, o Proyecto.SIN_FECHA si no tenía
+     */
+    public int getDiaRealFin() {
+        return diaRealFin;
+    }
+
+    /**
+     * @return El costo del proyecto luego de la modificación, en centavos
+     */
+    public long getCostoCentavos() {
+        return costoCentavos;
+    }
+
+    @Override
+    public String toString() {
+        return momento + " " + tipo + (titulo != null ? " '" + titulo + "'" : "")
+                + (legajo != 0 ? " legajo " + legajo : "") + " -> " + estado;
+    }
+}
@@ -0,0 +1,61 @@
+package entidades;
+
+import java.time.LocalDate;
+
+/**
+ * Reserva de un empleado para trabajar en una tarea durante un rango de días.
+ * El rango va de desde (inclusive) a hasta (exclusive).
+ */
+public class Reserva {
+    private final int legajo;
+    private final int numeroProyecto;
+    private final String titulo;
+    private final LocalDate desde;
+    private final LocalDate hasta;
+
+    public Reserva(int legajo, int numeroProyecto, String titulo, LocalDate desde, LocalDate hasta) {
+        if (titulo == null || desde == null || hasta == null) {
+            throw new IllegalArgumentException("La reserva no puede tener datos nulos");
+        }
+        if (!hasta.isAfter(desde)) {
+            throw new IllegalArgumentException("La reserva debe durar al menos un día");
+        }
+        this.legajo = legajo;
+        this.numeroProyecto = numeroProyecto;
+        this.titulo = titulo;
+        this.desde = desde;
+        this.hasta = hasta;
+    }
+
+    public int getLegajo() {
+        return legajo;
+    }
+
+    public int getNumeroProyecto() {
+        return numeroProyecto;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    /**
+     * @return Primer día de la reserva
+     */
+    public LocalDate getDesde() {
+        return desde;
+    }
+
+    /**
+     * @return Día siguiente al último día de la reserva
+     */
+    public LocalDate getHasta() {
+        return hasta;
+    }
+
+    @Override
+    public String toString() {
+        return "Legajo " + legajo + " - Proyecto #" + numeroProyecto + " - " + titulo + " [" + desde + ", "
+                + hasta + ")";
+    }
+}
@@ -0,0 +1,98 @@
+package entidades;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de una asignación masiva de tareas pendientes: las asignaciones
+ * realizadas, su costo total y el costo que habría tenido asignarlas una por
+ * una con el criterio de primer empleado disponible.
+ *
+ * Los dos costos totales se miden igual (costo ponderado por los retrasos de
+ * cada empleado, ver HomeSolution.asignarTareasPendientesOptimo), así que el
+ * ahorro nunca es negativo. El costo de cada Asignacion es el costo real.
+ */
+public class ResultadoAsignacionMasiva {
+
+    /**
+     * Una tarea asignada por la asignación masiva.
+     */
+    public static class Asignacion {
+        private final int numeroProyecto;
+        private final String titulo;
+        private final int legajo;
+        private final double costo;
+
+        public Asignacion(int numeroProyecto, String titulo, int legajo, double costo) {
+            this.numeroProyecto = numeroProyecto;
+            this.titulo = titulo;
+            this.legajo = legajo;
+            this.costo = costo;
+        }
+
+        public int getNumeroProyecto() {
+            return numeroProyecto;
+        }
+
+        public String getTitulo() {
+            return titulo;
+        }
+
+        public int getLegajo() {
+            return legajo;
+        }
+
+        public double getCosto() {
+            return costo;
+        }
+
+        @Override
+        public String toString() {
+            return "Proyecto #" + numeroProyecto + " - " + titulo + " -> legajo " + legajo
+                    + " ($" + String.format("%.2f", costo) + ")";
+        }
+    }
+
+    private final List<Asignacion> asignaciones;
+    private final double costoOptimo;
+    private final double costoGreedy;
+
+    public ResultadoAsignacionMasiva(List<Asignacion> asignaciones, double costoOptimo, double costoGreedy) {
+        this.asignaciones = Collections.unmodifiableList(asignaciones);
+        this.costoOptimo = costoOptimo;
+        this.costoGreedy = costoGreedy;
+    }
+
+    public List<Asignacion> getAsignaciones() {
+        return asignaciones;
+    }
+
+    /**
+     * @return Costo ponderado total de las asignaciones realizadas
+     */
+    public double getCostoOptimo() {
+        return costoOptimo;
+    }
+
+    /**
+     * @return Costo ponderado de asignar las mismas tareas con el primer empleado disponible
+     */
+    public double getCostoGreedy() {
+        return costoGreedy;
+    }
+
+    /**
+     * @return Ahorro respecto de la asignación por primer disponible
+     */
+    public double getAhorro() {
+        return costoGreedy - costoOptimo;
+    }
+
+    @Override
+    public String toString() {
+        return "Tareas asignadas: " + asignaciones.size() + "\n"
+                + "Costo óptimo: $" + String.format("%.2f", costoOptimo) + "\n"
+                + "Costo primer disponible: $" + String.format("%.2f", costoGreedy) + "\n"
+                + "Ahorro: $" + String.format("%.2f", getAhorro()) + "\n";
+    }
+}
@@ -0,0 +1,58 @@
+package entidades;
+
+import java.time.LocalDate;
+
+/**
+ * Resultado del análisis de riesgo de un proyecto: percentiles 50 y 90 de la
+ * fecha real de fin y del costo sobre todos los ensayos simulados.
+ */
+public class ResultadoRiesgo {
+    private final int numeroProyecto;
+    private final int ensayos;
+    private final LocalDate fechaFinP50;
+    private final LocalDate fechaFinP90;
+    private final double costoP50;
+    private final double costoP90;
+
+    public ResultadoRiesgo(int numeroProyecto, int ensayos, LocalDate fechaFinP50, LocalDate fechaFinP90,
+            double costoP50, double costoP90) {
+        this.numeroProyecto = numeroProyecto;
+        this.ensayos = ensayos;
+        this.fechaFinP50 = fechaFinP50;
+        this.fechaFinP90 = fechaFinP90;
+        this.costoP50 = costoP50;
+        this.costoP90 = costoP90;
+    }
+
+    public int getNumeroProyecto() {
+        return numeroProyecto;
+    }
+
+    public int getEnsayos() {
+        return ensayos;
+    }
+
+    public LocalDate getFechaFinP50() {
+        return fechaFinP50;
+    }
+
+    public LocalDate getFechaFinP90() {
+        return fechaFinP90;
+    }
+
+    public double getCostoP50() {
+        return costoP50;
+    }
+
+    public double getCostoP90() {
+        return costoP90;
+    }
+
+    @Override
+    public String toString() {
+        return "Proyecto #" + numeroProyecto + " (" + ensayos + " ensayos)\n"
+                + "Fecha real fin P50: " + fechaFinP50 + ", P90: " + fechaFinP90 + "\n"
+                + "Costo P50: $" + String.format("%.2f", costoP50) + ", P90: $" + String.format("%.2f", costoP90)
+                + "\n";
+    }
+}
@@ -0,0 +1,73 @@
+package entidades;
+
+import java.time.LocalDate;
+
+/**
+ * Resultado de evaluar un escenario hipotético sobre un proyecto:
+ * costo, margen y fecha real de fin, actuales y simulados.
+ */
+public class ResultadoSimulacion {
+    private final double costoActual;
+    private final double costoSimulado;
+    private final double margenActual;
+    private final double margenSimulado;
+    private final LocalDate fechaRealFinActual;
+    private final LocalDate fechaRealFinSimulada;
+
+    public ResultadoSimulacion(double costoActual, double costoSimulado, double margenActual, double margenSimulado,
+            LocalDate fechaRealFinActual, LocalDate fechaRealFinSimulada) {
+        this.costoActual = costoActual;
+        this.costoSimulado = costoSimulado;
+        this.margenActual = margenActual;
+        this.margenSimulado = margenSimulado;
+        this.fechaRealFinActual = fechaRealFinActual;
+        this.fechaRealFinSimulada = fechaRealFinSimulada;
+    }
+
+    public double getCostoActual() {
+        return costoActual;
+    }
+
+    public double getCostoSimulado() {
+        return costoSimulado;
+    }
+
+    /**
+     * @return Diferencia de costo (simulado - actual)
+     */
+    public double getDiferenciaCosto() {
+        return costoSimulado - costoActual;
+    }
+
+    public double getMargenActual() {
+        return margenActual;
+    }
+
+    public double getMargenSimulado() {
+        return margenSimulado;
+    }
+
+    public LocalDate getFechaRealFinActual() {
+        return fechaRealFinActual;
+    }
+
+    public LocalDate getFechaRealFinSimulada() {
+        return fechaRealFinSimulada;
+    }
+
+    /**
+     * @return Días que se corre la fecha real de fin (simulada - actual)
+     */
+    public long getDiferenciaDias() {
+        return fechaRealFinSimulada.toEpochDay() - fechaRealFinActual.toEpochDay();
+    }
+
+    @Override
+    public String toString() {
+        return "Costo: " + String.format("%.2f", costoActual) + " -> " + String.format("%.2f", costoSimulado)
+                + " (" + String.format("%+.2f", getDiferenciaCosto()) + ")\n"
+                + "Margen: " + margenActual + " -> " + margenSimulado + "\n"
+                + "Fecha real fin: " + fechaRealFinActual + " -> " + fechaRealFinSimulada
+                + " (" + String.format("%+d", getDiferenciaDias()) + " días)\n";
+    }
+}
@@ -0,0 +1,169 @@
+package entidades;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Simulador Monte Carlo de plazo y costo de un proyecto.
+ *
+ * Modelo de cada ensayo:
+ * - Cada tarea no terminada se retrasa con probabilidad (r + 1) / (r + 10),
+ *   siendo r la cantidad histórica de retrasos de su responsable
+ * - Los días de retraso siguen una distribución exponencial con media igual a
+ *   la mitad de la duración estimada de la tarea
+ * - Como en registrarRetrasoEnTarea, cada retraso corre la fecha real de fin
+ *   en ceil(días) días
+ * - El costo sigue la regla de Proyecto.actualizarCostoTotal(): margen 1.25 si
+ *   alguna tarea tiene retrasos, 1.35 si no; un empleado de planta que se
+ *   retrasa por primera vez pierde el bonus en todas sus tareas
+ *
+ * Ejecución:
+ * - Los ensayos se reparten en una cantidad fija de bloques que corren en
+ *   paralelo; cada bloque tiene su propio SplittableRandom derivado de la
+ *   semilla, por lo que el resultado es el mismo para la misma semilla sin
+ *   importar la cantidad de núcleos
+ * - Cada bloque usa arreglos preparados de antemano: el ciclo de ensayos no
+ *   crea objetos
+ */
+public class SimuladorRiesgo {
+    private static final int BLOQUES = 64;
+
+    private final int numeroProyecto;
+    private final int finBase;
+    private final CalendarioLaboral calendario;
+    private final boolean tieneRetrasosBase;
+    private final double[] duraciones;
+    private final double[] probabilidades;
+    private final int[] responsable;
+    private final double[] costoConBonus;
+    private final double[] costoSinBonus;
+    private final boolean[] bonusBase;
+    private final int cantidadEmpleados;
+
+    /**
+     * Prepara la simulación de un proyecto con sus tareas y responsables actuales.
+     *
+     * @param proyecto El proyecto a analizar
+     */
+    public SimuladorRiesgo(Proyecto proyecto) {
+        if (proyecto == null) {
+            throw new IllegalArgumentException("El proyecto no puede ser nulo");
+        }
+        List<Tarea> tareas = proyecto.getTareas();
+        this.numeroProyecto = proyecto.getNumero();
+        this.finBase = proyecto.getDiaFin();
+        this.calendario = proyecto.getCalendario();
+        this.tieneRetrasosBase = proyecto.getMargen() == 1.25;
+
+        int n = tareas.size();
+        this.duraciones = new double[n];
+        this.probabilidades = new double[n];
+        this.responsable = new int[n];
+        this.costoConBonus = new double[n];
+        this.costoSinBonus = new double[n];
+        Map<IEmpleado, Integer> indices = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Tarea tarea = tareas.get(i);
+            IEmpleado empleado = tarea.getEmpleadoAsignado();
+            duraciones[i] = tarea.getDuracionEstimada();
+            responsable[i] = -1;
+            if (empleado != null) {
+                Integer indice = indices.get(empleado);
+                if (indice == null) {
+                    indice = indices.size();
+                    indices.put(empleado, indice);
+                }
+                responsable[i] = indice;
+                int inicio = proyecto.getDiaInicioTarea(tarea);
+                costoConBonus[i] = Dinero.aDouble(
+                        empleado.calcularCostoCentavos(tarea.getDuracionEstimada(), false, inicio));
+                costoSinBonus[i] = Dinero.aDouble(
+                        empleado.calcularCostoCentavos(tarea.getDuracionEstimada(), true, inicio));
+            }
+            if (!tarea.isTerminada()) {
+                int retrasos = empleado != null ? empleado.getCantidadRetrasos() : 0;
+                probabilidades[i] = (retrasos + 1.0) / (retrasos + 10.0);
+            }
+        }
+        this.cantidadEmpleados = indices.size();
+        this.bonusBase = new boolean[cantidadEmpleados];
+        for (Map.Entry<IEmpleado, Integer> entrada : indices.entrySet()) {
+            bonusBase[entrada.getValue()] = !entrada.getKey().tuvoRetrasos();
+        }
+    }
+
+    /**
+     * Corre los ensayos en paralelo y calcula los percentiles.
+     *
+     * @param ensayos Cantidad de ensayos
+     * @param semilla Semilla del generador; la misma semilla da el mismo resultado
+     * @return Percentiles 50 y 90 de fecha real de fin y costo
+     * @throws IllegalArgumentException si ensayos <= 0
+     */
+    public ResultadoRiesgo simular(int ensayos, long semilla) {
+        if (ensayos <= 0) {
+            throw new IllegalArgumentException("La cantidad de ensayos debe ser mayor que 0");
+        }
+        int[] fines = new int[ensayos];
+        double[] costos = new double[ensayos];
+
+        // Los generadores se derivan en orden antes de repartir el trabajo
+        SplittableRandom raiz = new SplittableRandom(semilla);
+        SplittableRandom[] generadores = new SplittableRandom[BLOQUES];
+        for (int b = 0; b < BLOQUES; b++) {
+            generadores[b] = raiz.split();
+        }
+
+        IntStream.range(0, BLOQUES).parallel().forEach(b -> {
+            int desde = (int) ((long) ensayos * b / BLOQUES);
+            int hasta = (int) ((long) ensayos * (b + 1) / BLOQUES);
+            simularBloque(generadores[b], desde, hasta, fines, costos);
+        });
+
+        Arrays.sort(fines);
+        Arrays.sort(costos);
+        return new ResultadoRiesgo(numeroProyecto, ensayos,
+                LocalDate.ofEpochDay(fines[percentil(ensayos, 50)]),
+                LocalDate.ofEpochDay(fines[percentil(ensayos, 90)]),
+                costos[percentil(ensayos, 50)], costos[percentil(ensayos, 90)]);
+    }
+
+    private static int percentil(int cantidad, int p) {
+        return Math.min(cantidad - 1, (int) Math.ceil(cantidad * p / 100.0) - 1);
+    }
+
+    private void simularBloque(SplittableRandom generador, int desde, int hasta, int[] fines, double[] costos) {
+        boolean[] conBonus = new boolean[cantidadEmpleados];
+        for (int ensayo = desde; ensayo < hasta; ensayo++) {
+            System.arraycopy(bonusBase, 0, conBonus, 0, cantidadEmpleados);
+            boolean retrasado = tieneRetrasosBase;
+            int diasRetraso = 0;
+            for (int i = 0; i < duraciones.length; i++) {
+                if (probabilidades[i] > 0 && generador.nextDouble() < probabilidades[i]) {
+                    double dias = -Math.log(1.0 - generador.nextDouble()) * duraciones[i] / 2;
+                    if (dias > 0) {
+                        diasRetraso += (int) Math.ceil(dias);
+                        retrasado = true;
+                        if (responsable[i] >= 0) {
+                            conBonus[responsable[i]] = false;
+                        }
+                    }
+                }
+            }
+            double costoBase = 0;
+            for (int i = 0; i < duraciones.length; i++) {
+                if (responsable[i] >= 0) {
+                    costoBase += conBonus[responsable[i]] ? costoConBonus[i] : costoSinBonus[i];
+                }
+            }
+            // Los retrasos se cuentan en días hábiles, como en registrarRetrasoEnTarea
+            fines[ensayo] = (int) calendario.sumarDiasHabiles(finBase, diasRetraso);
+            costos[ensayo] = costoBase * (retrasado ? 1.25 : 1.35);
+        }
+    }
+}
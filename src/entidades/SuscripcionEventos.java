@@ -0,0 +1,88 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Suscripción a los eventos de un BufferEventos.
+ * Mantiene su propio cursor: cada llamada a leer() devuelve los eventos
+ * siguientes a los ya leídos, en orden de secuencia y sin huecos.
+ *
+ * Si se atrasa más que la capacidad del buffer queda desbordada: leer()
+ * falla hasta que se llame a resincronizar(), que salta los eventos perdidos.
+ * El consumidor puede entonces volver a consultar el estado completo del
+ * sistema y seguir desde la nueva secuencia.
+ *
+ * El cursor y el estado se guardan acá pero los maneja el buffer con su
+ * propio lock, porque publicar() necesita saber hasta dónde leyó cada uno.
+ */
+public class SuscripcionEventos {
+    private final BufferEventos buffer;
+    long siguiente;
+    boolean activa;
+    boolean desbordada;
+
+    SuscripcionEventos(BufferEventos buffer, long siguiente) {
+        this.buffer = buffer;
+        this.siguiente = siguiente;
+        this.activa = true;
+    }
+
+    /**
+     * Devuelve hasta 'maximo' eventos nuevos sin bloquear.
+     *
+     * @param maximo Cantidad máxima de eventos a devolver
+     * @return Lista de eventos, vacía si no hay nuevos
+     * @throws IllegalArgumentException si maximo <= 0
+     * @throws IllegalStateException si la suscripción fue cancelada o está desbordada
+     */
+    public List<Evento> leer(int maximo) {
+        if (maximo <= 0) {
+            throw new IllegalArgumentException("El máximo debe ser mayor que 0");
+        }
+        List<Evento> resultado = new ArrayList<>();
+        buffer.leer(this, maximo, resultado);
+        return resultado;
+    }
+
+    /**
+     * Igual que leer(), pero espera hasta 'milisegundos' si no hay eventos nuevos.
+     *
+     * @throws InterruptedException si el hilo es interrumpido mientras espera
+     */
+    public List<Evento> esperar(int maximo, long milisegundos) throws InterruptedException {
+        buffer.esperar(this, milisegundos);
+        return leer(maximo);
+    }
+
+    /**
+     * @return true si la suscripción perdió eventos y hay que resincronizarla
+     */
+    public boolean estaDesbordada() {
+        return buffer.estaDesbordada(this);
+    }
+
+    /**
+     * Salta al evento más viejo que el buffer sigue guardando y vuelve a
+     * habilitar leer(). Si la suscripción no estaba desbordada no cambia nada.
+     *
+     * @return La cantidad de eventos perdidos
+     */
+    public long resincronizar() {
+        return buffer.resincronizar(this);
+    }
+
+    /**
+     * @return La secuencia del próximo evento que devolverá esta suscripción
+     */
+    public long getSiguienteSecuencia() {
+        return buffer.siguienteDe(this);
+    }
+
+    /**
+     * Cancela la suscripción; el buffer deja de guardar eventos para ella.
+     */
+    public void cancelar() {
+        buffer.desuscribir(this);
+    }
+}
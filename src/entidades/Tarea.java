@@ -9,6 +9,7 @@ package entidades;
  * - Registra duración estimada y retrasos
  * - Puede tener un empleado asignado
  * - Puede estar terminada o en progreso
+ * - Puede requerir una categoría mínima de empleado de planta
  * - Calcula su costo basado en el empleado asignado
  * 
  * Invariantes:
@@ -24,6 +25,7 @@ public class Tarea {
     private double diasRetraso;
     private IEmpleado empleadoAsignado;
     private boolean terminada;
+    private Categoria categoriaRequerida;
 
     public Tarea(String titulo, String descripcion, double diasNecesarios) {
         if (titulo == null || titulo.trim().isEmpty()) {
@@ -95,6 +97,36 @@ public class Tarea {
         }
     }
 
+    /**
+     * @return La categoría mínima que debe tener el responsable, o null si cualquiera puede hacerla
+     */
+    public Categoria getCategoriaRequerida() {
+        return categoriaRequerida;
+    }
+
+    /**
+     * @param categoriaRequerida La categoría mínima del responsable, o null para no exigir ninguna
+     */
+    public void setCategoriaRequerida(Categoria categoriaRequerida) {
+        this.categoriaRequerida = categoriaRequerida;
+    }
+
+    /**
+     * Verifica si un empleado puede ser responsable de la tarea: sin categoría
+     * requerida cualquiera puede; si no, solo un empleado de planta de esa
+     * categoría o una superior.
+     *
+     * @param empleado El empleado a verificar
+     * @return true si el empleado cumple la categoría requerida
+     */
+    public boolean admiteEmpleado(IEmpleado empleado) {
+        if (categoriaRequerida == null) {
+            return true;
+        }
+        return empleado instanceof EmpleadoPlanta
+                && ((EmpleadoPlanta) empleado).getCategoria().cubre(categoriaRequerida);
+    }
+
     public boolean isTerminada() {
         return terminada;
     }
@@ -122,6 +154,9 @@ public class Tarea {
      * - Los días de retraso acumulados
      * - La tarifa del empleado asignado (por hora o por día según el tipo)
      * 
+     * Se usa la última tarifa registrada del empleado; para cobrar con la
+     * vigente en una fecha, ver getCostoTarea(dia).
+     *
      * @return El costo total de la tarea, o 0 si no hay empleado asignado
      */
     public double getCostoTarea() {
@@ -131,6 +166,20 @@ public class Tarea {
         return empleadoAsignado.calcularCosto(diasNecesarios + diasRetraso);
     }
 
+    /**
+     * Igual que getCostoTarea(), pero con la tarifa del empleado vigente en una fecha.
+     *
+     * @param dia Fecha de la que se toma la tarifa (el inicio de la tarea), como LocalDate.toEpochDay()
+     * @return El costo total de la tarea, o 0 si no hay empleado asignado
+     */
+    public double getCostoTarea(long dia) {
+        if (empleadoAsignado == null) {
+            return 0;
+        }
+        return Dinero.aDouble(empleadoAsignado.calcularCostoCentavos(diasNecesarios + diasRetraso,
+                empleadoAsignado.tuvoRetrasos(), dia));
+    }
+
     /**
      * Representación en string de la tarea.
      * Se utiliza el título como identificador principal.
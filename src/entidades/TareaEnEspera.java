@@ -0,0 +1,72 @@
+package entidades;
+
+import java.time.LocalDate;
+
+/**
+ * Tarea que quedó esperando un empleado disponible.
+ */
+public class TareaEnEspera {
+    private final int numeroProyecto;
+    private final String titulo;
+    // Días desde 1970-01-01
+    private final int diaInicioProyecto;
+    private final long secuencia;
+    private final Categoria categoriaRequerida;
+
+    /**
+     * @param diaInicioProyecto Inicio del proyecto, en días desde 1970-01-01
+     */
+    public TareaEnEspera(int numeroProyecto, String titulo, int diaInicioProyecto, long secuencia) {
+        this(numeroProyecto, titulo, diaInicioProyecto, secuencia, null);
+    }
+
+    /**
+     * @param diaInicioProyecto Inicio del proyecto, en días desde 1970-01-01
+     */
+    public TareaEnEspera(int numeroProyecto, String titulo, int diaInicioProyecto, long secuencia,
+            Categoria categoriaRequerida) {
+        this.numeroProyecto = numeroProyecto;
+        this.titulo = titulo;
+        this.diaInicioProyecto = diaInicioProyecto;
+        this.secuencia = secuencia;
+        this.categoriaRequerida = categoriaRequerida;
+    }
+
+    public int getNumeroProyecto() {
+        return numeroProyecto;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public LocalDate getFechaInicioProyecto() {
+        return LocalDate.ofEpochDay(diaInicioProyecto);
+    }
+
+    /**
+     * @return El inicio del proyecto, en días desde 1970-01-01
+     */
+    public int getDiaInicioProyecto() {
+        return diaInicioProyecto;
+    }
+
+    /**
+     * @return Orden de llegada a la cola (menor es más antigua)
+     */
+    public long getSecuencia() {
+        return secuencia;
+    }
+
+    /**
+     * @return La categoría que requiere la tarea, o null si no requiere ninguna
+     */
+    public Categoria getCategoriaRequerida() {
+        return categoriaRequerida;
+    }
+
+    @Override
+    public String toString() {
+        return "Proyecto #" + numeroProyecto + " - " + titulo + " (inicio " + getFechaInicioProyecto() + ")";
+    }
+}
@@ -0,0 +1,22 @@
+package entidades;
+
+/**
+ * Tipos de eventos que emite HomeSolution ante cada modificación.
+ */
+public enum TipoEvento {
+    EMPLEADO_REGISTRADO,
+    PROYECTO_REGISTRADO,
+    TAREA_AGREGADA,
+    TAREA_ASIGNADA,
+    TAREA_REASIGNADA,
+    RETRASO_REGISTRADO,
+    TAREA_FINALIZADA,
+    CAMBIO_ESTADO_PROYECTO,
+    PROYECTO_FINALIZADO,
+    TARIFA_ACTUALIZADA,
+    COSTO_RECALCULADO,
+    DEPENDENCIA_AGREGADA,
+    CATEGORIA_REQUERIDA_ESTABLECIDA,
+    TAREA_RESERVADA,
+    RESERVA_CANCELADA
+}
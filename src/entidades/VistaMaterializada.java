@@ -0,0 +1,181 @@
+package entidades;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Vista agregada que se mantiene actualizada en forma incremental.
+ * Se define con una función que, dado un proyecto, devuelve su aporte a cada
+ * grupo (por ejemplo cliente -> costo). Cada vez que un proyecto cambia, se
+ * resta su aporte anterior y se suma el nuevo, sin recalcular los demás.
+ *
+ * Los valores se guardan como long en una escala fija (centavos para los
+ * costos, milésimos para los días), así restar y volver a sumar aportes es
+ * exacto y los totales nunca se desvían de la suma de aportes. Se convierten
+ * a double solo al consultarlos.
+ *
+ * Estructuras de datos:
+ * - Map<String, Long> totales: valor acumulado por grupo, lectura O(1)
+ * - Map<Integer, Map<String, Long>> aportes: último aporte de cada proyecto en curso
+ * - Map<String, Long> congelados: suma de los aportes de los proyectos
+ *   archivados, que ya no cambian y no necesitan guardarse uno por uno
+ *
+ * Invariantes:
+ * - totales.get(g) es congelados.get(g) más la suma de aportes.get(p).get(g)
+ *   para todo proyecto p en curso
+ * - Ningún grupo de totales vale 0
+ */
+public class VistaMaterializada {
+    private final String nombre;
+    private final long escala;
+    private final Function<Proyecto, Map<String, Long>> aporte;
+    private final Map<String, Long> totales;
+    private final Map<Integer, Map<String, Long>> aportes;
+    private final Map<String, Long> congelados;
+
+    /**
+     * @param nombre Nombre de la vista
+     * @param escala Unidades de los aportes por cada unidad consultada (por ejemplo Dinero.ESCALA)
+     * @param aporte Aporte de un proyecto a cada grupo, en la escala indicada
+     * @throws IllegalArgumentException si el nombre es vacío, la escala no es positiva o la función es nula
+     */
+    public VistaMaterializada(String nombre, long escala, Function<Proyecto, Map<String, Long>> aporte) {
+        if (nombre == null || nombre.trim().isEmpty()) {
+            throw new IllegalArgumentException("El nombre de la vista no puede ser vacío");
+        }
+        if (escala <= 0) {
+            throw new IllegalArgumentException("La escala debe ser mayor que 0");
+        }
+        if (aporte == null) {
+            throw new IllegalArgumentException("La función de aporte no puede ser nula");
+        }
+        this.nombre = nombre;
+        this.escala = escala;
+        this.aporte = aporte;
+        this.totales = new HashMap<>();
+        this.aportes = new HashMap<>();
+        this.congelados = new HashMap<>();
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Reemplaza el aporte anterior del proyecto por el actual.
+     * Cuesta lo que cuesta calcular el aporte de ese proyecto.
+     */
+    public void actualizar(Proyecto proyecto) {
+        Map<String, Long> nuevo = aporte.apply(proyecto);
+        Map<String, Long> anterior = aportes.put(proyecto.getNumero(), nuevo);
+        if (anterior != null) {
+            for (Map.Entry<String, Long> entrada : anterior.entrySet()) {
+                sumar(entrada.getKey(), Math.negateExact(entrada.getValue()));
+            }
+        }
+        for (Map.Entry<String, Long> entrada : nuevo.entrySet()) {
+            sumar(entrada.getKey(), entrada.getValue());
+        }
+    }
+
+    /**
+     * Indica que el proyecto ya no va a cambiar (se archivó). Su aporte queda
+     * en los totales, pero deja de guardarse por separado.
+     *
+     * @param numero Número del proyecto
+     */
+    public void congelar(int numero) {
+        Map<String, Long> aporteProyecto = aportes.remove(numero);
+        if (aporteProyecto != null) {
+            for (Map.Entry<String, Long> entrada : aporteProyecto.entrySet()) {
+                congelados.merge(entrada.getKey(), entrada.getValue(), Math::addExact);
+            }
+        }
+    }
+
+    private void sumar(String grupo, long valor) {
+        long total = Math.addExact(totales.getOrDefault(grupo, 0L), valor);
+        // Los grupos que quedan en cero se quitan
+        if (total == 0) {
+            totales.remove(grupo);
+        } else {
+            totales.put(grupo, total);
+        }
+    }
+
+    /**
+     * @return El total acumulado del grupo, o 0 si no tiene aportes. O(1).
+     */
+    public double valor(String grupo) {
+        return (double) valorEnEscala(grupo) / escala;
+    }
+
+    /**
+     * @return El total acumulado del grupo en la escala de la vista, o 0 si no tiene aportes. O(1).
+     */
+    public long valorEnEscala(String grupo) {
+        return totales.getOrDefault(grupo, 0L);
+    }
+
+    /**
+     * @return Copia de todos los totales por grupo
+     */
+    public Map<String, Double> getTotales() {
+        Map<String, Double> copia = new HashMap<>();
+        for (Map.Entry<String, Long> entrada : totales.entrySet()) {
+            copia.put(entrada.getKey(), (double) entrada.getValue() / escala);
+        }
+        return copia;
+    }
+
+    /**
+     * Recalcula desde cero el aporte de los proyectos indicados y lo compara con
+     * el guardado, y verifica que los totales coincidan con la suma de aportes
+     * (incluidos los de proyectos archivados). Las comparaciones son exactas.
+     * Los proyectos que no se pasan conservan su último aporte.
+     *
+     * @param proyectos Proyectos a recalcular
+     * @return Descripción de cada diferencia encontrada; vacía si la vista es correcta
+     */
+    public List<String> verificar(Collection<Proyecto> proyectos) {
+        List<String> diferencias = new ArrayList<>();
+        for (Proyecto proyecto : proyectos) {
+            Map<String, Long> esperado = aporte.apply(proyecto);
+            Map<String, Long> guardado = aportes.getOrDefault(proyecto.getNumero(), new HashMap<>());
+            if (!iguales(esperado, guardado)) {
+                diferencias.add(nombre + ": el proyecto " + proyecto.getNumero() + " aporta " + esperado
+                        + " pero la vista tiene " + guardado);
+            }
+        }
+        Map<String, Long> sumaAportes = new HashMap<>(congelados);
+        for (Map<String, Long> aportesProyecto : aportes.values()) {
+            for (Map.Entry<String, Long> entrada : aportesProyecto.entrySet()) {
+                sumaAportes.merge(entrada.getKey(), entrada.getValue(), Math::addExact);
+            }
+        }
+        if (!iguales(sumaAportes, totales)) {
+            diferencias.add(nombre + ": los totales " + totales + " no coinciden con la suma de aportes "
+                    + sumaAportes);
+        }
+        return diferencias;
+    }
+
+    // Un grupo ausente equivale a uno en 0
+    private static boolean iguales(Map<String, Long> a, Map<String, Long> b) {
+        for (Map.Entry<String, Long> entrada : a.entrySet()) {
+            if (entrada.getValue() != b.getOrDefault(entrada.getKey(), 0L).longValue()) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, Long> entrada : b.entrySet()) {
+            if (entrada.getValue() != a.getOrDefault(entrada.getKey(), 0L).longValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
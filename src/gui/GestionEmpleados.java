@@ -1,5 +1,6 @@
 package gui;
 
+import entidades.CriterioRanking;
 import entidades.Estado;
 import entidades.Tupla;
 
@@ -18,6 +19,7 @@ public class GestionEmpleados extends JPanel {
     private JTable tablaEmpleados;
     private JScrollPane scrollPane;
     private JButton verRetrasos;
+    private JButton verRanking;
     private JButton volverPrincipal;
 
     public GestionEmpleados(PanelManager panelManager) {
@@ -50,6 +52,20 @@ public class GestionEmpleados extends JPanel {
             }
         });
 
+        verRanking.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent actionEvent) {
+                List<Tupla<Integer, Double>> ranking = panelManager.sistema()
+                        .rankingEmpleados(CriterioRanking.RETRASOS, 5, true);
+                StringBuilder mensaje = new StringBuilder("Empleados con más retrasos:\n");
+                for (Tupla<Integer, Double> t : ranking) {
+                    mensaje.append("Legajo ").append(t.getValor1()).append(": ")
+                            .append(t.getValor2().intValue()).append(" retrasos\n");
+                }
+                JOptionPane.showMessageDialog(null, mensaje.toString());
+            }
+        });
+
         setLayout(new BorderLayout());
         add(gestionEmpleados, BorderLayout.CENTER);
     }
@@ -64,6 +80,7 @@ public class GestionEmpleados extends JPanel {
         tablaEmpleados = new JTable(modelTabla);
         scrollPane = new JScrollPane(tablaEmpleados);
         verRetrasos = new JButton("Ver retrasos del empleado seleccionado");
+        verRanking = new JButton("Ver empleados con más retrasos");
         volverPrincipal = new JButton("Volver al menu");
         gestionEmpleados = new JPanel();
         gestionEmpleados.setLayout(new GridBagLayout());
@@ -77,6 +94,9 @@ public class GestionEmpleados extends JPanel {
         gbc.gridx = 1;
         gbc.gridy = 2;
         gestionEmpleados.add(verRetrasos, gbc);
+        gbc.gridx = 0;
+        gbc.gridy = 2;
+        gestionEmpleados.add(verRanking, gbc);
         gbc.gridx = 2;
         gbc.gridy = 3;
         gbc.gridwidth = 2;
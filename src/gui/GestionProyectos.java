@@ -25,6 +25,7 @@ public class GestionProyectos extends JPanel {
     private JComboBox<String> tareas;
     private JButton asignarEmpleado;
     private JButton asignarEmpleadoEficiente;
+    private JButton asignarEmpleadoEconomico;
     private JButton registrarRetrasoEnTarea;
     private JButton establecerComoFinalizada;
     private JButton agregarTarea;
@@ -63,7 +64,7 @@ public class GestionProyectos extends JPanel {
                         panelManager.sistema().asignarResponsableEnTarea(panelManager.consultarSeleccionado(), titulo);
                     } catch (Exception exception) {
                         JOptionPane.showMessageDialog(null,
-                                "No hay empleados disponibles, el proyecto quedara pendiente");
+                                "No hay empleados disponibles, la tarea se asignara cuando se libere uno");
                     }
                 } else {
                     JOptionPane.showMessageDialog(null, "No hay tarea seleccionada");
@@ -81,7 +82,24 @@ public class GestionProyectos extends JPanel {
                                 titulo);
                     } catch (Exception exception) {
                         JOptionPane.showMessageDialog(null,
-                                "No hay empleados disponibles, el proyecto quedara pendiente");
+                                "No hay empleados disponibles, la tarea se asignara cuando se libere uno");
+                    }
+                } else {
+                    JOptionPane.showMessageDialog(null, "No hay tarea seleccionada");
+                }
+            }
+        });
+        asignarEmpleadoEconomico.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (seleccionValida()) {
+                    String titulo = tareas.getSelectedItem().toString();
+                    try {
+                        panelManager.sistema().asignarResponsableMasEconomico(panelManager.consultarSeleccionado(),
+                                titulo);
+                    } catch (Exception exception) {
+                        JOptionPane.showMessageDialog(null,
+                                "No hay empleados disponibles, la tarea se asignara cuando se libere uno");
                     }
                 } else {
                     JOptionPane.showMessageDialog(null, "No hay tarea seleccionada");
@@ -279,6 +297,7 @@ public class GestionProyectos extends JPanel {
 
         asignarEmpleado = new JButton("Asignar empleado");
         asignarEmpleadoEficiente = new JButton("Asignar empleado con menos retrasos");
+        asignarEmpleadoEconomico = new JButton("Asignar empleado mas economico");
         registrarRetrasoEnTarea = new JButton("Regristrar retraso en tarea");
         establecerComoFinalizada = new JButton("Establecer tarea como finalizada");
         reasignarEmpleado = new JButton("Cambiar empleado reponsable");
@@ -310,6 +329,8 @@ public class GestionProyectos extends JPanel {
         gestionProyecto.add(asignarEmpleado, gbc);
         gbc.gridx = 2;
         gestionProyecto.add(asignarEmpleadoEficiente, gbc);
+        gbc.gridx = 3;
+        gestionProyecto.add(asignarEmpleadoEconomico, gbc);
         gbc.gridx = 1;
         gbc.gridy = 4;
         gestionProyecto.add(reasignarEmpleado, gbc);
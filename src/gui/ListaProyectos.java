@@ -1,7 +1,10 @@
 package gui;
 
+import entidades.CursorProyectos;
 import entidades.Estado;
 import entidades.HomeSolution;
+import entidades.OrdenProyectos;
+import entidades.PaginaProyectos;
 import entidades.Proyecto;
 import entidades.Tupla;
 
@@ -11,8 +14,6 @@ import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.util.List;
-import java.util.ArrayList;
 
 public class ListaProyectos extends JPanel {
     private PanelManager panelManager;
@@ -25,6 +26,10 @@ public class ListaProyectos extends JPanel {
     private JTable proyectos;
     private JButton mostrar;
     private JButton gestion;
+    private JButton cargarMas;
+    private String estadoListado;
+    private CursorProyectos siguientePagina;
+    private static final int TAMANIO_PAGINA = 200;
 
     public ListaProyectos(PanelManager panelManager) {
         this.panelManager = panelManager;
@@ -48,6 +53,13 @@ public class ListaProyectos extends JPanel {
                     JOptionPane.showMessageDialog(null, "No hay proyectos");
             }
         });
+        cargarMas.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (siguientePagina != null)
+                    cargarPagina(modelTabla);
+            }
+        });
         gestion.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
@@ -83,6 +95,8 @@ public class ListaProyectos extends JPanel {
         JScrollPane scrollPane = new JScrollPane(proyectos);
         mostrar = new JButton("Mostrar proyectos seleccionados");
         gestion = new JButton("Ver seleccionado");
+        cargarMas = new JButton("Cargar más");
+        cargarMas.setEnabled(false);
         listaProyectos = new JPanel();
         listaProyectos.setLayout(new GridBagLayout());
 
@@ -109,6 +123,9 @@ public class ListaProyectos extends JPanel {
         gbc.gridx = 0;
         gbc.gridy = 4;
         listaProyectos.add(scrollPane, gbc);
+        gbc.gridx = 2;
+        gbc.gridy = 4;
+        listaProyectos.add(cargarMas, gbc);
         gbc.gridx = 0;
         gbc.gridy = 5;
         gbc.gridwidth = 3;
@@ -122,25 +139,23 @@ public class ListaProyectos extends JPanel {
     }
 
     private void cargarTabla(String opcion, DefaultTableModel tableModel) {
-        List<Tupla<Integer, String>> proyectos = new ArrayList<>();
-
-        switch (opcion) {
-            case Estado.pendiente:
-                proyectos = panelManager.sistema().proyectosPendientes();
-                break;
-            case Estado.activo:
-                proyectos = panelManager.sistema().proyectosActivos();
-                break;
-            case Estado.finalizado:
-                proyectos = panelManager.sistema().proyectosFinalizados();
-                break;
-        }
+        estadoListado = opcion;
+        siguientePagina = null;
         tableModel.setRowCount(0);
+        cargarPagina(tableModel);
+    }
+
+    // Agrega a la tabla la página siguiente del estado seleccionado
+    private void cargarPagina(DefaultTableModel tableModel) {
+        PaginaProyectos pagina = panelManager.sistema().listarProyectos(estadoListado, OrdenProyectos.NUMERO, true,
+                siguientePagina, TAMANIO_PAGINA);
 
-        for (Tupla<Integer, String> t : proyectos) {
+        for (Tupla<Integer, String> t : pagina.getElementos()) {
             Object[] nuevaFila = { t.getValor1(), t.getValor2() };
             tableModel.addRow(nuevaFila);
         }
+        siguientePagina = pagina.getSiguiente();
+        cargarMas.setEnabled(pagina.hayMas());
     }
 
 }
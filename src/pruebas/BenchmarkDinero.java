@@ -0,0 +1,56 @@
+package pruebas;
+
+import entidades.Dinero;
+import entidades.EmpleadoContratado;
+import entidades.EmpleadoPlanta;
+
+/**
+ * Compara el cálculo de costos en centavos (Dinero) con la misma cuenta hecha
+ * en double, como se hacía antes: tiempo por cálculo y total acumulado.
+ *
+ * Cada iteración calcula el costo de un empleado de planta (con y sin el
+ * adicional del 2%) y de uno contratado para duraciones de 0.25 a 10 días.
+ * El total en centavos es la suma exacta de cada costo redondeado al
+ * centavo. El de double no redondea cada costo y además acumula error al
+ * sumar, por eso no coincide con ningún monto que se pueda facturar.
+ *
+ * Uso: java pruebas.BenchmarkDinero
+ */
+public class BenchmarkDinero {
+    private static final int ITERACIONES = 20_000_000;
+    private static final int REPETICIONES = 5;
+    private static final double VALOR_DIA = 1234.56;
+    private static final double VALOR_HORA = 98.76;
+
+    public static void main(String[] args) {
+        EmpleadoPlanta planta = new EmpleadoPlanta("Planta", VALOR_DIA, "EXPERTO");
+        EmpleadoContratado contratado = new EmpleadoContratado("Contratado", VALOR_HORA);
+        for (int repeticion = 1; repeticion <= REPETICIONES; repeticion++) {
+            long inicio = System.nanoTime();
+            long centavos = 0;
+            for (int i = 0; i < ITERACIONES; i++) {
+                double dias = duracion(i);
+                centavos += planta.calcularCostoCentavos(dias, (i & 1) == 0)
+                        + contratado.calcularCostoCentavos(dias, false);
+            }
+            long medio = System.nanoTime();
+            double total = 0;
+            for (int i = 0; i < ITERACIONES; i++) {
+                double dias = duracion(i);
+                double costoPlanta = VALOR_DIA * Math.ceil(dias);
+                if ((i & 1) != 0) {
+                    costoPlanta *= 1.02;
+                }
+                total += costoPlanta + VALOR_HORA * (dias <= 0.5 ? 4 : dias * 8);
+            }
+            long fin = System.nanoTime();
+            System.out.printf("Repetición %d: centavos %.2f ns/cálculo total %.2f | double %.2f ns/cálculo"
+                    + " total %.6f%n", repeticion, (medio - inicio) / (double) ITERACIONES, Dinero.aDouble(centavos),
+                    (fin - medio) / (double) ITERACIONES, total);
+        }
+    }
+
+    private static double duracion(int i) {
+        return (i % 40) * 0.25 + 0.25;
+    }
+}
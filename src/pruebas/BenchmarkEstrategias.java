@@ -0,0 +1,134 @@
+package pruebas;
+
+import entidades.EstrategiaAsignacion;
+import entidades.EstrategiaMenosDias;
+import entidades.EstrategiaMenosReciente;
+import entidades.EstrategiaPrimerDisponible;
+import entidades.EstrategiaRoundRobin;
+import entidades.Evento;
+import entidades.HomeSolution;
+import entidades.SuscripcionEventos;
+import entidades.TipoEvento;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compara las estrategias de asignación: cuánto tarda asignarResponsableEnTarea
+ * con cada una y cómo se reparten los días de trabajo entre los empleados.
+ *
+ * Se registran EMPLEADOS empleados y PROYECTOS proyectos de TAREAS_POR_PROYECTO
+ * tareas con duraciones al azar (siempre la misma semilla). Las tareas se
+ * asignan en orden y se mantienen EN_CURSO tareas abiertas: al asignar una
+ * nueva se finaliza la más vieja, así siempre hay empleados libres para elegir.
+ * Los días asignados a cada empleado se cuentan con los eventos TAREA_ASIGNADA.
+ *
+ * Uso: java pruebas.BenchmarkEstrategias
+ */
+public class BenchmarkEstrategias {
+    private static final int EMPLEADOS = 50;
+    private static final int PROYECTOS = 400;
+    private static final int TAREAS_POR_PROYECTO = 10;
+    private static final int EN_CURSO = EMPLEADOS / 2;
+    private static final int REPETICIONES = 3;
+
+    public static void main(String[] args) throws Exception {
+        for (int repeticion = 1; repeticion <= REPETICIONES; repeticion++) {
+            System.out.println("Repetición " + repeticion);
+            medir("Primer disponible", new EstrategiaPrimerDisponible());
+            medir("Round robin", new EstrategiaRoundRobin());
+            medir("Menos reciente", new EstrategiaMenosReciente());
+            medir("Menos días", new EstrategiaMenosDias());
+        }
+    }
+
+    private static void medir(String nombre, EstrategiaAsignacion estrategia) throws Exception {
+        Random random = new Random(42);
+        HomeSolution sistema = new HomeSolution();
+        SuscripcionEventos eventos = sistema.suscribirEventos();
+        for (int i = 0; i < EMPLEADOS; i++) {
+            // Solo empleados de planta: los legajos de contratados y de planta se numeran por separado
+            sistema.registrarEmpleado("Empleado " + i, 1000, "INICIAL");
+        }
+        sistema.configurarEstrategiaAsignacion(estrategia);
+
+        String[] titulos = new String[TAREAS_POR_PROYECTO];
+        String[] descripciones = new String[TAREAS_POR_PROYECTO];
+        for (int i = 0; i < TAREAS_POR_PROYECTO; i++) {
+            titulos[i] = "Tarea " + i;
+            descripciones[i] = "Descripción " + i;
+        }
+        Map<String, Double> duraciones = new HashMap<>();
+        List<Integer> numeros = new ArrayList<>();
+        for (int p = 0; p < PROYECTOS; p++) {
+            double[] duracion = new double[TAREAS_POR_PROYECTO];
+            for (int i = 0; i < TAREAS_POR_PROYECTO; i++) {
+                duracion[i] = 0.5 * (1 + random.nextInt(16));
+            }
+            sistema.registrarProyecto(titulos, descripciones, duracion, "Calle " + p, new String[] { "Cliente" },
+                    "2025-01-01", "2025-12-31");
+            int numero = ultimoProyectoRegistrado(eventos);
+            numeros.add(numero);
+            for (int i = 0; i < TAREAS_POR_PROYECTO; i++) {
+                duraciones.put(numero + "/" + titulos[i], duracion[i]);
+            }
+        }
+
+        Map<Integer, Double> diasPorEmpleado = new HashMap<>();
+        Deque<String[]> abiertas = new ArrayDeque<>();
+        long nanos = 0;
+        int asignaciones = 0;
+        for (int numero : numeros) {
+            for (String titulo : titulos) {
+                if (abiertas.size() == EN_CURSO) {
+                    String[] vieja = abiertas.poll();
+                    sistema.finalizarTarea(Integer.valueOf(vieja[0]), vieja[1]);
+                }
+                long inicio = System.nanoTime();
+                sistema.asignarResponsableEnTarea(numero, titulo);
+                nanos += System.nanoTime() - inicio;
+                asignaciones++;
+                abiertas.add(new String[] { String.valueOf(numero), titulo });
+            }
+            for (Evento evento : eventos.leer(Integer.MAX_VALUE)) {
+                if (evento.getTipo() == TipoEvento.TAREA_ASIGNADA) {
+                    diasPorEmpleado.merge(evento.getLegajo(),
+                            duraciones.get(evento.getNumeroProyecto() + "/" + evento.getTitulo()), Double::sum);
+                }
+            }
+        }
+        eventos.cancelar();
+
+        // Los empleados que nunca recibieron una tarea cuentan con 0 días
+        double minimo = diasPorEmpleado.size() < EMPLEADOS ? 0 : Double.MAX_VALUE;
+        double maximo = 0;
+        double suma = 0;
+        double sumaCuadrados = 0;
+        for (double dias : diasPorEmpleado.values()) {
+            minimo = Math.min(minimo, dias);
+            maximo = Math.max(maximo, dias);
+            suma += dias;
+            sumaCuadrados += dias * dias;
+        }
+        double media = suma / EMPLEADOS;
+        double desvio = Math.sqrt(Math.max(0, sumaCuadrados / EMPLEADOS - media * media));
+        System.out.printf("  %-18s %8.2f us/asignación  empleados usados %2d/%d  días min %6.1f max %6.1f"
+                + " desvío %6.1f%n", nombre, nanos / 1000.0 / asignaciones, diasPorEmpleado.size(), EMPLEADOS,
+                minimo, maximo, desvio);
+    }
+
+    private static int ultimoProyectoRegistrado(SuscripcionEventos eventos) {
+        int numero = -1;
+        for (Evento evento : eventos.leer(Integer.MAX_VALUE)) {
+            if (evento.getTipo() == TipoEvento.PROYECTO_REGISTRADO) {
+                numero = evento.getNumeroProyecto();
+            }
+        }
+        return numero;
+    }
+}
@@ -0,0 +1,157 @@
+package pruebas;
+
+import entidades.Evento;
+import entidades.HomeSolution;
+import entidades.SuscripcionEventos;
+import entidades.TipoEvento;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Aplica operaciones al azar sobre un HomeSolution y, después de cada una,
+ * comprueba con verificarCostos() que los costos mantenidos en forma
+ * incremental coinciden con los recalculados desde cero.
+ *
+ * Las operaciones son: registrar proyectos, asignar y reasignar tareas,
+ * registrar retrasos (el empleado de planta pierde el adicional y cambian
+ * los costos de sus otros proyectos), actualizar tarifas con vigencia en el
+ * pasado, agregar y finalizar tareas y archivar proyectos. Las operaciones
+ * que el sistema rechaza (por ejemplo asignar sin empleados libres) se
+ * cuentan pero no son errores.
+ *
+ * Termina con código 1 en el primer paso en que verificarCostos() no está vacía.
+ *
+ * Uso: java pruebas.VerificacionCostosAleatoria [semilla] [pasos]
+ */
+public class VerificacionCostosAleatoria {
+    private static final int EMPLEADOS = 8;
+    private static final String[] CATEGORIAS = { "INICIAL", "TECNICO", "EXPERTO" };
+
+    private final Random random;
+    private final HomeSolution sistema;
+    private final SuscripcionEventos eventos;
+    private final List<Integer> legajos;
+    private final List<Integer> proyectos;
+    // Cantidad de tareas de cada proyecto en curso, para elegir títulos que existen
+    private final Map<Integer, Integer> tareas;
+
+    private VerificacionCostosAleatoria(long semilla) {
+        this.random = new Random(semilla);
+        this.sistema = new HomeSolution();
+        this.eventos = sistema.suscribirEventos();
+        this.legajos = new ArrayList<>();
+        this.proyectos = new ArrayList<>();
+        this.tareas = new HashMap<>();
+    }
+
+    public static void main(String[] args) {
+        long semilla = args.length > 0 ? Long.parseLong(args[0]) : 7;
+        int pasos = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        VerificacionCostosAleatoria prueba = new VerificacionCostosAleatoria(semilla);
+        int rechazadas = prueba.ejecutar(pasos);
+        System.out.println("Semilla " + semilla + ": " + pasos + " pasos sin diferencias (" + rechazadas
+                + " operaciones rechazadas), costo total " + prueba.sistema.costoProyecto());
+    }
+
+    /**
+     * @return Cantidad de operaciones que el sistema rechazó
+     */
+    private int ejecutar(int pasos) {
+        for (int i = 0; i < EMPLEADOS; i++) {
+            // Solo empleados de planta: los legajos de contratados y de planta se numeran por separado
+            sistema.registrarEmpleado("Empleado " + i, 400 + random.nextInt(400), CATEGORIAS[i % CATEGORIAS.length]);
+        }
+        leerNuevos();
+
+        int rechazadas = 0;
+        for (int paso = 1; paso <= pasos; paso++) {
+            String descripcion;
+            try {
+                descripcion = aplicar(proyectos.isEmpty() ? 0 : random.nextInt(11));
+            } catch (Exception e) {
+                descripcion = "rechazada: " + e.getMessage();
+                rechazadas++;
+            }
+            List<String> diferencias = sistema.verificarCostos();
+            if (!diferencias.isEmpty()) {
+                System.out.println("Paso " + paso + " (" + descripcion + "): " + diferencias);
+                System.exit(1);
+            }
+        }
+        return rechazadas;
+    }
+
+    private String aplicar(int operacion) throws Exception {
+        int numero = proyectos.isEmpty() ? 0 : proyectos.get(random.nextInt(proyectos.size()));
+        String titulo = proyectos.isEmpty() ? null : "T" + random.nextInt(tareas.get(numero));
+        switch (operacion) {
+            case 0: {
+                int cantidad = 1 + random.nextInt(3);
+                String[] titulos = new String[cantidad];
+                String[] descripciones = new String[cantidad];
+                double[] duraciones = new double[cantidad];
+                for (int i = 0; i < cantidad; i++) {
+                    titulos[i] = "T" + i;
+                    descripciones[i] = "Descripción " + i;
+                    duraciones[i] = 0.5 * (1 + random.nextInt(8));
+                }
+                sistema.registrarProyecto(titulos, descripciones, duraciones, "Calle " + random.nextInt(100),
+                        new String[] { "Cliente" }, "2025-01-0" + (1 + random.nextInt(9)), "2025-02-01");
+                leerNuevos();
+                tareas.put(proyectos.get(proyectos.size() - 1), cantidad);
+                return "registrar proyecto";
+            }
+            case 1:
+            case 2:
+                sistema.asignarResponsableEnTarea(numero, titulo);
+                return "asignar " + numero + "/" + titulo;
+            case 3:
+                sistema.registrarRetrasoEnTarea(numero, titulo, 1 + random.nextInt(3));
+                return "retraso en " + numero + "/" + titulo;
+            case 4: {
+                int legajo = legajos.get(random.nextInt(legajos.size()));
+                sistema.actualizarTarifaEmpleado(legajo, LocalDate.of(2025, 1, 1 + random.nextInt(20)),
+                        200 + random.nextInt(600));
+                return "tarifa de " + legajo;
+            }
+            case 5:
+            case 6:
+                sistema.finalizarTarea(numero, titulo);
+                return "finalizar " + numero + "/" + titulo;
+            case 7:
+                sistema.reasignarEmpleadoConMenosRetraso(numero, titulo);
+                return "reasignar " + numero + "/" + titulo;
+            case 8:
+                sistema.reasignarEmpleadoEnProyecto(numero, legajos.get(random.nextInt(legajos.size())), titulo);
+                return "reasignar " + numero + "/" + titulo + " a un legajo";
+            case 9:
+                sistema.agregarTareaEnProyecto(numero, "T" + tareas.get(numero), "Agregada",
+                        0.5 * (1 + random.nextInt(8)));
+                tareas.merge(numero, 1, Integer::sum);
+                return "agregar tarea en " + numero;
+            default:
+                sistema.finalizarProyecto(numero, "2025-03-01");
+                proyectos.remove(Integer.valueOf(numero));
+                tareas.remove(numero);
+                return "archivar " + numero;
+        }
+    }
+
+    /**
+     * Anota los legajos y números de proyecto nuevos, que el sistema informa por eventos.
+     */
+    private void leerNuevos() {
+        for (Evento evento : eventos.leer(Integer.MAX_VALUE)) {
+            if (evento.getTipo() == TipoEvento.EMPLEADO_REGISTRADO) {
+                legajos.add(evento.getLegajo());
+            } else if (evento.getTipo() == TipoEvento.PROYECTO_REGISTRADO) {
+                proyectos.add(evento.getNumeroProyecto());
+            }
+        }
+    }
+}